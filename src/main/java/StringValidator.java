@@ -1,21 +1,69 @@
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintStream;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.BitSet;
+
+import com.baeldung.validation.BatchNameValidator;
+import com.baeldung.validation.CachingValidator;
+import com.baeldung.validation.FileValidationSummary;
+import com.baeldung.validation.InvalidLineRangeWriter;
+import com.baeldung.validation.LengthLimits;
+import com.baeldung.validation.LengthUnit;
+import com.baeldung.validation.MappedNameFileValidator;
+import com.baeldung.validation.NameScanner;
 
 /**
  * Classe `StringValidator` : simule la logique de validation de chaînes de caractères.
  */
 public class StringValidator {
 
-    // Accepte toutes les lettres Unicode (y compris les lettres accentuées) et les espaces
-    private static final Pattern VALID_NAME_PATTERN = Pattern.compile("^[\\p{L}\\s]+$");
-
     // 1. Fonction critique pour la sûreté (validation de nom)
+    // Accepte toutes les lettres Unicode (y compris les lettres accentuées) et les espaces,
+    // avec le même résultat que "^[\\p{L}\\s]+$" sur nom.trim(), sans regex ni allocation
     public static boolean estNomValide(String nom) {
-        if (nom == null || nom.trim().isEmpty()) {
-            return false;
-        }
-        Matcher matcher = VALID_NAME_PATTERN.matcher(nom.trim());
-        return matcher.matches();
+        return NameScanner.isValidName(nom);
+    }
+
+    // 1. Variantes octets : même règle appliquée directement sur de l'UTF-8, sans décodage en String ;
+    // une séquence UTF-8 mal formée rend le nom invalide
+    public static boolean estNomValide(byte[] nomUtf8, int debut, int longueur) {
+        return NameScanner.isValidName(nomUtf8, debut, longueur);
+    }
+
+    public static boolean estNomValide(ByteBuffer nomUtf8) {
+        return NameScanner.isValidName(nomUtf8);
+    }
+
+    // 1 bis. Validation en lot : le bit i est positionné si noms[i] est un nom valide
+    public static BitSet validerNoms(CharSequence... noms) {
+        return BatchNameValidator.validate(noms);
+    }
+
+    // 1 ter. Validation en lot : nombre de noms valides
+    public static int compterNomsValides(CharSequence... noms) {
+        return BatchNameValidator.countValid(noms);
+    }
+
+    // 1 quater. Validation d'un fichier UTF-8 (un nom par ligne) projeté en mémoire :
+    // les numéros des lignes invalides sont écrits dans le rapport sous forme de plages ("12", "40-57")
+    public static FileValidationSummary validerFichier(Path fichier, Writer rapport) throws IOException {
+        InvalidLineRangeWriter lignesInvalides = new InvalidLineRangeWriter(rapport);
+        FileValidationSummary resume = MappedNameFileValidator.validate(fichier, lignesInvalides);
+        lignesInvalides.flush();
+        return resume;
+    }
+
+    // 1 quinquies. Cache borné (W-TinyLFU) devant estNomValide, utile quand peu de noms concentrent le trafic ;
+    // les compteurs de succès, d'échecs et d'évictions sont disponibles via stats()
+    public static CachingValidator creerCacheNoms(long nombreMaxEntrees) {
+        return CachingValidator.maximumEntries(NameScanner::isValidName, nombreMaxEntrees);
     }
 
     // 2. Fonction critique pour la robustesse (gérer le null)
@@ -25,18 +73,37 @@ public class StringValidator {
 
     // 3. Fonction pour la fiabilité (calcul de longueur)
     public static int calculerLongueur(String str, int limiteMax) {
-        if (str == null) {
-            return 0;
-        }
-        int length = str.length();
-        if (length > limiteMax) {
-            throw new IllegalArgumentException("La chaîne dépasse la limite de taille maximale.");
-        }
-        return length;
+        return LengthLimits.lengthOrThrow(str, limiteMax);
+    }
+
+    // Valeur retournée par mesurerLongueur quand la limite est dépassée
+    public static final int LONGUEUR_DEPASSEE = LengthLimits.OVER_LIMIT;
+
+    // 3 bis. Variante sans exception pour les chemins critiques : LONGUEUR_DEPASSEE si la limite est dépassée
+    public static int mesurerLongueur(String str, int limiteMax) {
+        return LengthLimits.lengthOrStatus(str, limiteMax);
+    }
+
+    // 3 ter. Même contrat que calculerLongueur, mais l'exception levée ne capture pas de pile d'appels
+    public static int calculerLongueurSansTrace(String str, int limiteMax) {
+        return LengthLimits.lengthOrThrowStackless(str, limiteMax);
+    }
+
+    // 3 quater. Limite exprimée en octets UTF-8, points de code ou graphèmes : le parcours s'arrête dès le dépassement
+    public static int mesurerLongueur(String str, LengthUnit unite, int limiteMax) {
+        return LengthLimits.measure(str, unite, limiteMax);
     }
 
     // --- Le point d'entrée pour Docker ---
+    // Usage : java -jar stringvalidator.jar [--fichier <noms.txt> [--rapport <lignes-invalides.txt>]]
     public static void main(String[] args) {
+        if (args.length > 0 && "--fichier".equals(args[0])) {
+            int code = executerValidationFichier(args, System.out, System.err);
+            if (code != 0) {
+                System.exit(code);
+            }
+            return;
+        }
         System.out.println("Application StringValidator démarrée.");
         try {
             boolean valide = estNomValide("Jean Dupont");
@@ -48,4 +115,39 @@ public class StringValidator {
             System.err.println("ERREUR GÉRÉE (robustesse testée) : " + e.getMessage());
         }
     }
+
+    // Codes de sortie du mode CLI
+    static final int SORTIE_OK = 0;
+    static final int SORTIE_ERREUR_FICHIER = 1;
+    static final int SORTIE_USAGE = 2;
+
+    // Mode CLI : le rapport va dans le fichier --rapport s'il est fourni, sinon sur la sortie ;
+    // le résumé et les erreurs vont sur erreurs. Retourne le code de sortie du processus
+    static int executerValidationFichier(String[] args, PrintStream sortie, PrintStream erreurs) {
+        boolean avecRapport = args.length == 4 && "--rapport".equals(args[2]);
+        if (args.length != 2 && !avecRapport) {
+            erreurs.println("Usage : java -jar stringvalidator.jar --fichier <noms.txt> [--rapport <lignes-invalides.txt>]");
+            return SORTIE_USAGE;
+        }
+        Path fichier = Paths.get(args[1]);
+        try {
+            FileValidationSummary resume;
+            if (avecRapport) {
+                try (Writer rapport = Files.newBufferedWriter(Paths.get(args[3]), StandardCharsets.UTF_8)) {
+                    resume = validerFichier(fichier, rapport);
+                }
+            } else {
+                // La sortie est seulement vidée : fermer System.out le fermerait pour toute la JVM
+                Writer rapport = new BufferedWriter(new OutputStreamWriter(sortie, StandardCharsets.UTF_8));
+                resume = validerFichier(fichier, rapport);
+                rapport.flush();
+            }
+            erreurs.printf("Lignes : %d, invalides : %d, %.1f Mo/s%n",
+                resume.lines(), resume.invalidLines(), resume.megabytesPerSecond());
+            return SORTIE_OK;
+        } catch (IOException e) {
+            erreurs.println("ERREUR : impossible de valider " + fichier + " : " + e.getMessage());
+            return SORTIE_ERREUR_FICHIER;
+        }
+    }
 }
@@ -0,0 +1,69 @@
+package com.baeldung.benchmarks;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.SplittableRandom;
+
+import javax.management.ObjectName;
+
+import com.baeldung.generics.Animal;
+import com.baeldung.generics.AnimalSymbols;
+import com.baeldung.generics.Cat;
+
+/**
+ * Heap footprint of a cat population, with and without shared {@link AnimalSymbols}.
+ *
+ * Builds {@code count} cats whose type and name strings are created afresh for each cat, as a
+ * parser would, from 8 types and a long tail of 1M names (the square of a uniform draw, so the
+ * low ranks repeat most). Prints the heap retained after a full GC and the top of the class
+ * histogram. Footprint is not a throughput figure, hence a plain main rather than JMH.
+ *
+ * Run with: java -Xmx3g -cp target/classes com.baeldung.benchmarks.AnimalFootprint [plain|interned] [count]
+ */
+public class AnimalFootprint {
+
+    private static final int TYPES = 8;
+    private static final int NAMES = 1_000_000;
+    private static final int HISTOGRAM_LINES = 10;
+
+    public static void main(String[] args) throws Exception {
+        boolean interned = args.length > 0 && "interned".equals(args[0]);
+        int count = args.length > 1 ? Integer.parseInt(args[1]) : 10_000_000;
+
+        long baseline = retainedHeap();
+        AnimalSymbols symbols = interned ? new AnimalSymbols() : null;
+        Animal[] animals = new Animal[count];
+        SplittableRandom random = new SplittableRandom(42);
+        for (int i = 0; i < count; i++) {
+            double draw = random.nextDouble();
+            String type = "Type" + random.nextInt(TYPES);
+            String name = "chat" + (int) (draw * draw * NAMES);
+            animals[i] = interned ? Cat.interned(type, name, symbols) : new Cat(type, name);
+        }
+        long retained = retainedHeap() - baseline;
+
+        System.out.printf("%s: %,d cats, %,d bytes retained, %.1f bytes per cat%s%n",
+            interned ? "interned" : "plain", count, retained, (double) retained / count,
+            interned ? ", " + symbols : "");
+        printHistogram();
+        System.out.println(animals[count - 1]);
+    }
+
+    private static long retainedHeap() {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        for (int i = 0; i < 3; i++) {
+            memory.gc();
+        }
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+
+    private static void printHistogram() throws Exception {
+        String histogram = (String) ManagementFactory.getPlatformMBeanServer().invoke(
+            new ObjectName("com.sun.management:type=DiagnosticCommand"), "gcClassHistogram",
+            new Object[] {new String[0]}, new String[] {String[].class.getName()});
+        String[] lines = histogram.split("\n");
+        for (int i = 0; i < Math.min(lines.length, HISTOGRAM_LINES + 2); i++) {
+            System.out.println(lines[i]);
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package com.baeldung.benchmarks;
+
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.baeldung.generics.AnimalIndex;
+import com.baeldung.generics.Cat;
+
+/**
+ * JMH Microbenchmarks for deduplicating one million cats.
+ * Inserts build a whole set; lookups probe with distinct but equal cats, as a dedup pass would.
+ * main() adds the GC profiler: gc.alloc.rate.norm gives the bytes allocated per operation.
+ *
+ * Run with: mvn clean package && java -jar target/benchmarks.jar AnimalIndexBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, warmups = 0)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class AnimalIndexBenchmark {
+
+    private static final int SIZE = 1_000_000;
+
+    private Cat[] cats;
+    private Cat[] probes;
+    private Set<Cat> hashSet;
+    private AnimalIndex<Cat> index;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        cats = new Cat[SIZE];
+        probes = new Cat[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            cats[i] = new Cat("Feline", "chat" + i);
+            probes[i] = new Cat("Feline", "chat" + (i * 7919 % SIZE));
+        }
+        hashSet = new HashSet<>();
+        index = new AnimalIndex<>();
+        for (Cat cat : cats) {
+            hashSet.add(cat);
+            index.add(cat);
+        }
+    }
+
+    /**
+     * Benchmark: insert 1M cats into a HashSet<Cat>
+     */
+    @Benchmark
+    public Set<Cat> benchmarkHashSetInsert() {
+        Set<Cat> set = new HashSet<>();
+        for (Cat cat : cats) {
+            set.add(cat);
+        }
+        return set;
+    }
+
+    /**
+     * Benchmark: insert 1M cats into an AnimalIndex
+     */
+    @Benchmark
+    public AnimalIndex<Cat> benchmarkAnimalIndexInsert() {
+        AnimalIndex<Cat> set = new AnimalIndex<>();
+        for (Cat cat : cats) {
+            set.add(cat);
+        }
+        return set;
+    }
+
+    /**
+     * Benchmark: 1M HashSet.contains lookups with equal, non-identical cats
+     */
+    @Benchmark
+    public int benchmarkHashSetLookup() {
+        int found = 0;
+        for (Cat probe : probes) {
+            if (hashSet.contains(probe)) {
+                found++;
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Benchmark: 1M AnimalIndex.contains lookups by type and name
+     */
+    @Benchmark
+    public int benchmarkAnimalIndexLookup() {
+        int found = 0;
+        for (Cat probe : probes) {
+            if (index.contains(probe.getType(), probe.getName())) {
+                found++;
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Benchmark: 1M AnimalIndex.contains lookups with equal cats, reusing their cached hash
+     */
+    @Benchmark
+    public int benchmarkAnimalIndexLookupByAnimal() {
+        int found = 0;
+        for (Cat probe : probes) {
+            if (index.contains(probe)) {
+                found++;
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Benchmark: hashing 1M cats with Objects.hash(type, name) (previous Cat.hashCode)
+     */
+    @Benchmark
+    public int benchmarkObjectsHash() {
+        int sum = 0;
+        for (Cat cat : cats) {
+            sum += Objects.hash(cat.getType(), cat.getName());
+        }
+        return sum;
+    }
+
+    /**
+     * Benchmark: hashing 1M cats with the cached hash code
+     */
+    @Benchmark
+    public int benchmarkCachedHash() {
+        int sum = 0;
+        for (Cat cat : cats) {
+            sum += cat.hashCode();
+        }
+        return sum;
+    }
+
+    /**
+     * Main method to run benchmarks
+     */
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(AnimalIndexBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .forks(1)
+                .warmupIterations(3)
+                .measurementIterations(5)
+                .build();
+
+        new Runner(opt).run();
+    }
+}
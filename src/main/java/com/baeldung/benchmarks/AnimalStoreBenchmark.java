@@ -0,0 +1,170 @@
+package com.baeldung.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.baeldung.generics.Animal;
+import com.baeldung.generics.AnimalStore;
+import com.baeldung.generics.Cat;
+import com.baeldung.generics.Dog;
+
+/**
+ * JMH Microbenchmarks for scanning 4M animals, as a shuffled List&lt;Animal&gt; against the columnar
+ * AnimalStore. The list is shuffled after creation, as after any reordering, so that its elements
+ * are not laid out in iteration order. Both hold the same animals: 8 types, three cats out of four.
+ *
+ * Run with: mvn clean package && java -jar target/benchmarks.jar AnimalStoreBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, warmups = 0, jvmArgsAppend = "-Xmx3g")
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class AnimalStoreBenchmark {
+
+    private static final int SIZE = 4_000_000;
+    private static final int LONG_NAME = 11;
+
+    private List<Animal> list;
+    private AnimalStore store;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        SplittableRandom random = new SplittableRandom(42);
+        list = new ArrayList<>(SIZE);
+        for (int i = 0; i < SIZE; i++) {
+            String type = "Type" + random.nextInt(8);
+            String name = "chat" + random.nextInt(SIZE);
+            list.add(random.nextInt(4) == 0 ? new Dog(type, name) : new Cat(type, name));
+        }
+        Collections.shuffle(list, new Random(42));
+        store = new AnimalStore();
+        for (Animal animal : list) {
+            store.add(animal);
+        }
+    }
+
+    /**
+     * Benchmark: count cats with instanceof over the list
+     */
+    @Benchmark
+    public int benchmarkListCountCats() {
+        int count = 0;
+        for (Animal animal : list) {
+            if (animal instanceof Cat) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Benchmark: count cats over the kind column
+     */
+    @Benchmark
+    public int benchmarkStoreCountCats() {
+        return store.count(AnimalStore.Kind.CAT);
+    }
+
+    /**
+     * Benchmark: count animals per type over the list, in a HashMap
+     */
+    @Benchmark
+    public Map<String, Integer> benchmarkListCountByType() {
+        Map<String, Integer> counts = new HashMap<>();
+        for (Animal animal : list) {
+            counts.merge(animal.getType(), 1, Integer::sum);
+        }
+        return counts;
+    }
+
+    /**
+     * Benchmark: count animals per type id over the type column
+     */
+    @Benchmark
+    public int[] benchmarkStoreCountByType() {
+        return store.countByType();
+    }
+
+    /**
+     * Benchmark: count long names over the list, one String dereference per animal
+     */
+    @Benchmark
+    public int benchmarkListCountLongNames() {
+        int count = 0;
+        for (Animal animal : list) {
+            if (animal.getName().length() >= LONG_NAME) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Benchmark: count long names from the name offsets
+     */
+    @Benchmark
+    public int benchmarkStoreCountLongNames() {
+        return store.countNameLengthAtLeast(LONG_NAME);
+    }
+
+    /**
+     * Benchmark: count dogs whose name starts with "chat1" over the list
+     */
+    @Benchmark
+    public int benchmarkListFilter() {
+        int count = 0;
+        for (Animal animal : list) {
+            if (animal instanceof Dog && animal.getName().startsWith("chat1")) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Benchmark: same filter through the store cursor, reading the name in the arena
+     */
+    @Benchmark
+    public int benchmarkStoreFilter() {
+        return store.count(cursor -> cursor.getKind() == AnimalStore.Kind.DOG
+            && cursor.nameLength() >= 5 && cursor.nameCharAt(4) == '1');
+    }
+
+    /**
+     * Main method to run benchmarks
+     */
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(AnimalStoreBenchmark.class.getSimpleName())
+                .forks(1)
+                .warmupIterations(3)
+                .measurementIterations(5)
+                .build();
+
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,151 @@
+package com.baeldung.benchmarks;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.baeldung.validation.BatchNameValidator;
+import com.baeldung.validation.NameScanner;
+
+/**
+ * JMH Microbenchmarks for bulk name validation.
+ * One operation validates one million names, so ops/s reads as millions of names per second.
+ *
+ * Run with: mvn clean package && java -jar target/benchmarks.jar BatchNameValidatorBenchmark
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, warmups = 0)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class BatchNameValidatorBenchmark {
+
+    private static final int NAME_COUNT = 1_000_000;
+
+    private String[] names;
+    private List<String> nameList;
+    private Pattern namePattern = Pattern.compile("^[\\p{L}\\s]+$");
+
+    @Setup(Level.Trial)
+    public void setup() {
+        String[] samples = {"Jean Dupont", "Marie Claire", "Hélène Müller", "Jean123", "  Zoë  ", "O'Brien"};
+        Random random = new Random(42);
+        names = new String[NAME_COUNT];
+        for (int i = 0; i < NAME_COUNT; i++) {
+            names[i] = samples[random.nextInt(samples.length)];
+        }
+        nameList = Arrays.asList(names);
+    }
+
+    /**
+     * Benchmark: scalar scanner called in a loop, building the bitmap bit by bit
+     */
+    @Benchmark
+    public BitSet benchmarkScalarLoop() {
+        BitSet result = new BitSet(NAME_COUNT);
+        for (int i = 0; i < names.length; i++) {
+            if (NameScanner.isValidName(names[i])) {
+                result.set(i);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Benchmark: former regex scalar path in a loop (one Matcher per name)
+     */
+    @Benchmark
+    public BitSet benchmarkRegexScalarLoop() {
+        BitSet result = new BitSet(NAME_COUNT);
+        for (int i = 0; i < names.length; i++) {
+            String nom = names[i];
+            if (!nom.trim().isEmpty() && namePattern.matcher(nom.trim()).matches()) {
+                result.set(i);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Benchmark: regex in a loop reusing a single Matcher
+     */
+    @Benchmark
+    public BitSet benchmarkRegexReusedMatcher() {
+        BitSet result = new BitSet(NAME_COUNT);
+        Matcher matcher = namePattern.matcher("");
+        for (int i = 0; i < names.length; i++) {
+            String nom = names[i].trim();
+            if (!nom.isEmpty() && matcher.reset(nom).matches()) {
+                result.set(i);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Benchmark: batch validation of an array into a bitmap
+     */
+    @Benchmark
+    public BitSet benchmarkBatchArray() {
+        return BatchNameValidator.validate(names);
+    }
+
+    /**
+     * Benchmark: batch validation of a list into a bitmap
+     */
+    @Benchmark
+    public BitSet benchmarkBatchList() {
+        return BatchNameValidator.validate(nameList);
+    }
+
+    /**
+     * Benchmark: batch count over a stream
+     */
+    @Benchmark
+    public long benchmarkBatchStreamCount() {
+        return BatchNameValidator.countValid(Arrays.stream(names));
+    }
+
+    /**
+     * Benchmark: batch count over an array
+     */
+    @Benchmark
+    public int benchmarkBatchArrayCount() {
+        return BatchNameValidator.countValid(names);
+    }
+
+    /**
+     * Main method to run benchmarks
+     */
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(BatchNameValidatorBenchmark.class.getSimpleName())
+                .forks(1)
+                .warmupIterations(3)
+                .measurementIterations(5)
+                .build();
+
+        new Runner(opt).run();
+    }
+}
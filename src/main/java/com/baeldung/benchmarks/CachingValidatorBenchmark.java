@@ -0,0 +1,138 @@
+package com.baeldung.benchmarks;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.baeldung.validation.CachingValidator;
+import com.baeldung.validation.NameScanner;
+
+/**
+ * JMH Microbenchmarks for the memoizing validator under Zipfian traffic.
+ * Names are drawn from a universe of 200 000 distinct names with a Zipf exponent of
+ * {@code skew} (0 = uniform); the cache holds 10 000 entries.
+ *
+ * Run with: mvn clean package && java -jar target/benchmarks.jar CachingValidatorBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, warmups = 0)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class CachingValidatorBenchmark {
+
+    private static final int UNIVERSE = 200_000;
+    private static final int SAMPLES = 1 << 20;
+    private static final int CACHE_ENTRIES = 10_000;
+
+    @Param({"0.0", "0.99", "1.2"})
+    private double skew;
+
+    @Param({"16", "256"})
+    private int nameLength;
+
+    private String[] samples;
+    private int cursor;
+    private CachingValidator cache;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Random random = new Random(42);
+        String[] universe = new String[UNIVERSE];
+        for (int i = 0; i < UNIVERSE; i++) {
+            universe[i] = name(random, i);
+        }
+        double[] cumulative = new double[UNIVERSE];
+        double total = 0;
+        for (int rank = 0; rank < UNIVERSE; rank++) {
+            total += 1.0 / Math.pow(rank + 1, skew);
+            cumulative[rank] = total;
+        }
+        samples = new String[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            int rank = Arrays.binarySearch(cumulative, random.nextDouble() * total);
+            samples[i] = universe[Math.min(UNIVERSE - 1, rank < 0 ? -rank - 1 : rank)];
+        }
+        cache = CachingValidator.maximumEntries(NameScanner::isValidName, CACHE_ENTRIES);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (cache.stats().requestCount() == 0) {
+            return;
+        }
+        System.out.println();
+        System.out.println("skew=" + skew + " nameLength=" + nameLength + " " + cache.stats());
+    }
+
+    private String name(Random random, int id) {
+        StringBuilder sb = new StringBuilder(nameLength);
+        for (int rest = id; ; rest /= 26) {
+            sb.append((char) ('a' + rest % 26));
+            if (rest < 26) {
+                break;
+            }
+        }
+        while (sb.length() < nameLength) {
+            sb.append(random.nextInt(8) == 0 ? ' ' : (char) ('a' + random.nextInt(26)));
+        }
+        // One name in ten ends with a digit and is rejected.
+        if (id % 10 == 0) {
+            sb.setCharAt(sb.length() - 1, '7');
+        }
+        return sb.toString();
+    }
+
+    private String next() {
+        return samples[cursor++ & (SAMPLES - 1)];
+    }
+
+    /**
+     * Benchmark: raw scanner on every call
+     */
+    @Benchmark
+    public boolean benchmarkRawScanner() {
+        return NameScanner.isValidName(next());
+    }
+
+    /**
+     * Benchmark: scanner behind the W-TinyLFU cache
+     */
+    @Benchmark
+    public boolean benchmarkCached() {
+        return cache.isValid(next());
+    }
+
+    /**
+     * Main method to run benchmarks
+     */
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(CachingValidatorBenchmark.class.getSimpleName())
+                .forks(1)
+                .warmupIterations(3)
+                .measurementIterations(5)
+                .build();
+
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,110 @@
+package com.baeldung.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.baeldung.generics.Cat;
+import com.baeldung.generics.CatSorter;
+
+/**
+ * JMH Microbenchmarks for sorting cats by name length (1 to 20 characters), 100k and 10M of
+ * them. Every invocation sorts a fresh copy of the same unsorted list; the copy is made in an
+ * invocation-level setup, which is negligible for operations of a millisecond or more.
+ *
+ * Run with: mvn clean package && java -jar target/benchmarks.jar CatSortBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, warmups = 0, jvmArgsAppend = "-Xmx3g")
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class CatSortBenchmark {
+
+    @Param({"100000", "10000000"})
+    private int size;
+
+    private List<Cat> unsorted;
+    private List<Cat> cats;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        SplittableRandom random = new SplittableRandom(42);
+        String[] names = new String[21];
+        for (int length = 1; length < names.length; length++) {
+            names[length] = "x".repeat(length);
+        }
+        unsorted = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            unsorted.add(new Cat("Feline", names[1 + random.nextInt(20)]));
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void copy() {
+        cats = new ArrayList<>(unsorted);
+    }
+
+    /**
+     * Benchmark: Collections.sort with Cat.compareTo (TimSort, two length reads per comparison)
+     */
+    @Benchmark
+    public List<Cat> benchmarkCollectionsSort() {
+        Collections.sort(cats);
+        return cats;
+    }
+
+    /**
+     * Benchmark: CatSorter.sortByNameLength (keys extracted once, one counting pass)
+     */
+    @Benchmark
+    public List<Cat> benchmarkCountingSort() {
+        CatSorter.sortByNameLength(cats);
+        return cats;
+    }
+
+    /**
+     * Benchmark: CatSorter.parallelSortByNameLength in the common pool
+     */
+    @Benchmark
+    public List<Cat> benchmarkParallelCountingSort() {
+        CatSorter.parallelSortByNameLength(cats);
+        return cats;
+    }
+
+    /**
+     * Main method to run benchmarks
+     */
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(CatSortBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .forks(1)
+                .warmupIterations(3)
+                .measurementIterations(5)
+                .build();
+
+        new Runner(opt).run();
+    }
+}
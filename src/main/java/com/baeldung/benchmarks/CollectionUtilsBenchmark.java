@@ -1,8 +1,17 @@
 package com.baeldung.benchmarks;
 
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
 
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
@@ -11,27 +20,35 @@ import org.openjdk.jmh.annotations.Level;
 import org.openjdk.jmh.annotations.Measurement;
 import org.openjdk.jmh.annotations.Mode;
 import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
 import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
 import org.openjdk.jmh.runner.Runner;
 import org.openjdk.jmh.runner.RunnerException;
 import org.openjdk.jmh.runner.options.Options;
 import org.openjdk.jmh.runner.options.OptionsBuilder;
 
 import com.baeldung.generics.CollectionUtils;
+import com.baeldung.generics.LongList;
 
 /**
  * JMH Microbenchmarks for CollectionUtils generic methods.
  * Measures performance of collection operations.
  * 
+ * main() adds the GC profiler, whose gc.alloc.rate.norm column gives the bytes allocated per
+ * merge. The sum kernels are measured on 1k, 1M and 100M values; each representation has its own
+ * state so that a run only allocates the data it reads (the 100M boxed list needs ~2 GB).
+ * 
  * Run with: mvn clean package && java -jar target/benchmarks.jar
  */
 @BenchmarkMode(Mode.AverageTime)
 @OutputTimeUnit(TimeUnit.NANOSECONDS)
 @State(Scope.Benchmark)
-@Fork(value = 1, warmups = 0)
+@Fork(value = 1, warmups = 0, jvmArgsAppend = "-Xmx3g")
 @Warmup(iterations = 3, time = 1)
 @Measurement(iterations = 5, time = 1)
 public class CollectionUtilsBenchmark {
@@ -39,6 +56,9 @@ public class CollectionUtilsBenchmark {
     private List<String> stringList;
     private List<Integer> intList;
     private List<Number> numberList;
+    private List<String> mergeLeft;
+    private List<String> mergeRight;
+    private List<List<String>> mergeParts;
 
     @Setup(Level.Trial)
     public void setup() {
@@ -56,6 +76,143 @@ public class CollectionUtilsBenchmark {
         for (int i = 0; i < 1000; i++) {
             numberList.add((long)i);
         }
+
+        mergeLeft = new ArrayList<>(stringList.subList(0, 500));
+        mergeRight = new ArrayList<>(stringList.subList(500, 1000));
+        mergeParts = new ArrayList<>();
+        for (int part = 0; part < 16; part++) {
+            mergeParts.add(new ArrayList<>(stringList.subList(part * 1000 / 16, (part + 1) * 1000 / 16)));
+        }
+    }
+
+    /**
+     * Random values below 2^20, so that no sum overflows and boxing always allocates.
+     */
+    private static long[] randomValues(int size) {
+        return new SplittableRandom(42).longs(size, 0, 1 << 20).toArray();
+    }
+
+    @State(Scope.Benchmark)
+    public static class IntArrayState {
+
+        @Param({"1000", "1000000", "100000000"})
+        public int size;
+
+        int[] values;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            values = new SplittableRandom(42).ints(size, 0, 1 << 20).toArray();
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class LongArrayState {
+
+        @Param({"1000", "1000000", "100000000"})
+        public int size;
+
+        long[] values;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            values = randomValues(size);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class LongListState {
+
+        @Param({"1000", "1000000", "100000000"})
+        public int size;
+
+        LongList values;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            values = LongList.of(randomValues(size));
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class DirectBufferState {
+
+        @Param({"1000", "1000000", "100000000"})
+        public int size;
+
+        LongBuffer values;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            values = ByteBuffer.allocateDirect(size * Long.BYTES)
+                .order(ByteOrder.nativeOrder())
+                .asLongBuffer()
+                .put(randomValues(size))
+                .flip();
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class BoxedListState {
+
+        @Param({"1000", "1000000", "100000000"})
+        public int size;
+
+        List<Long> values;
+
+        /**
+         * Both paths first see Integer, Short and Double lists, as a shared utility would in an
+         * application, so that their Number::longValue call sites are megamorphic.
+         */
+        @Setup(Level.Trial)
+        public void setup() {
+            values = new ArrayList<>(size);
+            SplittableRandom random = new SplittableRandom(42);
+            for (int i = 0; i < size; i++) {
+                values.add(random.nextLong(1 << 20));
+            }
+            List<List<? extends Number>> others = List.of(List.of(1, 2, 3), List.of((short) 1, (short) 2), List.of(1.5, 2.5));
+            for (int i = 0; i < 20_000; i++) {
+                for (List<? extends Number> other : others) {
+                    streamSum(other);
+                    CollectionUtils.sumWildcard(other);
+                }
+            }
+        }
+    }
+
+    /**
+     * 20M boxed longs summed in a pool of {@code threads} workers; "N" uses every available core.
+     */
+    @State(Scope.Benchmark)
+    public static class ParallelSumState {
+
+        @Param({"1", "2", "4", "8", "N"})
+        public String threads;
+
+        @Param({"65536"})
+        public int threshold;
+
+        List<Long> values;
+        ForkJoinPool pool;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            values = new ArrayList<>(20_000_000);
+            SplittableRandom random = new SplittableRandom(42);
+            for (int i = 0; i < 20_000_000; i++) {
+                values.add(random.nextLong());
+            }
+            int parallelism = "N".equals(threads)
+                ? Runtime.getRuntime().availableProcessors()
+                : Integer.parseInt(threads);
+            pool = new ForkJoinPool(parallelism);
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            pool.shutdown();
+        }
     }
 
     /**
@@ -79,9 +236,7 @@ public class CollectionUtilsBenchmark {
      */
     @Benchmark
     public List<String> benchmarkMergeTypeParameter() {
-        List<String> list1 = new ArrayList<>(stringList.subList(0, 100));
-        List<String> list2 = new ArrayList<>(stringList.subList(100, 200));
-        return CollectionUtils.mergeTypeParameter(list1, list2);
+        return CollectionUtils.mergeTypeParameter(mergeLeft, mergeRight);
     }
 
     /**
@@ -89,9 +244,63 @@ public class CollectionUtilsBenchmark {
      */
     @Benchmark
     public List<? extends String> benchmarkMergeWildcard() {
-        List<String> list1 = new ArrayList<>(stringList.subList(0, 100));
-        List<String> list2 = new ArrayList<>(stringList.subList(100, 200));
-        return CollectionUtils.mergeWildcard(list1, list2);
+        return CollectionUtils.mergeWildcard(mergeLeft, mergeRight);
+    }
+
+    /**
+     * Benchmark: Stream.concat(...).collect(toList()) (previous merge implementation)
+     */
+    @Benchmark
+    public List<String> benchmarkMergeStreamConcat() {
+        return Stream.concat(mergeLeft.stream(), mergeRight.stream())
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Benchmark: zero-copy concatView of the same two lists
+     */
+    @Benchmark
+    public List<String> benchmarkConcatView() {
+        return CollectionUtils.concatView(mergeLeft, mergeRight);
+    }
+
+    /**
+     * Benchmark: concatView read back by index, element by element
+     */
+    @Benchmark
+    public int benchmarkConcatViewGetAll() {
+        List<String> view = CollectionUtils.concatView(mergeLeft, mergeRight);
+        int length = 0;
+        for (int i = 0; i < view.size(); i++) {
+            length += view.get(i).length();
+        }
+        return length;
+    }
+
+    /**
+     * Benchmark: materialized merge read back by index (reference for the view's get cost)
+     */
+    @Benchmark
+    public int benchmarkMergedGetAll() {
+        List<String> merged = CollectionUtils.mergeTypeParameter(mergeLeft, mergeRight);
+        int length = 0;
+        for (int i = 0; i < merged.size(); i++) {
+            length += merged.get(i).length();
+        }
+        return length;
+    }
+
+    /**
+     * Benchmark: k-way concatView of 16 lists read back by index
+     */
+    @Benchmark
+    public int benchmarkConcatViewKWayGetAll() {
+        List<String> view = CollectionUtils.concatView(mergeParts);
+        int length = 0;
+        for (int i = 0; i < view.size(); i++) {
+            length += view.get(i).length();
+        }
+        return length;
     }
 
     /**
@@ -118,6 +327,100 @@ public class CollectionUtilsBenchmark {
         return CollectionUtils.sumWildcard(numberList);
     }
 
+    /**
+     * Benchmark: sequential sumWildcard on 20M elements (reference point for the speedup)
+     */
+    @Benchmark
+    public long benchmarkSumWildcardSequential(ParallelSumState state) {
+        return CollectionUtils.sumWildcard(state.values);
+    }
+
+    /**
+     * Benchmark: fork/join parallelSum on 20M elements with the configured parallelism
+     */
+    @Benchmark
+    public long benchmarkParallelSum(ParallelSumState state) {
+        return CollectionUtils.parallelSum(state.values, state.pool, state.threshold);
+    }
+
+    /**
+     * Benchmark: fork/join parallelSumExact (128-bit accumulation, BigInteger result)
+     */
+    @Benchmark
+    public BigInteger benchmarkParallelSumExact(ParallelSumState state) {
+        return CollectionUtils.parallelSumExact(state.values, state.pool, state.threshold);
+    }
+
+    /**
+     * Benchmark: boxed List<Long> through a Number stream (previous sum implementation)
+     */
+    @Benchmark
+    public long benchmarkSumBoxedStream(BoxedListState state) {
+        return streamSum(state.values);
+    }
+
+    private static long streamSum(List<? extends Number> numbers) {
+        return numbers.stream()
+            .mapToLong(Number::longValue)
+            .sum();
+    }
+
+    /**
+     * Benchmark: boxed List<Long> through the homogeneous fast path of sumWildcard
+     */
+    @Benchmark
+    public long benchmarkSumBoxedFastPath(BoxedListState state) {
+        return CollectionUtils.sumWildcard(state.values);
+    }
+
+    /**
+     * Benchmark: sum(int[]) with four accumulators
+     */
+    @Benchmark
+    public long benchmarkSumIntArray(IntArrayState state) {
+        return CollectionUtils.sum(state.values);
+    }
+
+    /**
+     * Benchmark: sum(long[]) with four accumulators
+     */
+    @Benchmark
+    public long benchmarkSumLongArray(LongArrayState state) {
+        return CollectionUtils.sum(state.values);
+    }
+
+    /**
+     * Benchmark: LongStream.of(long[]).sum() (reference)
+     */
+    @Benchmark
+    public long benchmarkSumLongStream(LongArrayState state) {
+        return LongStream.of(state.values).sum();
+    }
+
+    /**
+     * Benchmark: overflow-checked sumExact(long[])
+     */
+    @Benchmark
+    public long benchmarkSumExactLongArray(LongArrayState state) {
+        return CollectionUtils.sumExact(state.values);
+    }
+
+    /**
+     * Benchmark: sum(LongList)
+     */
+    @Benchmark
+    public long benchmarkSumLongList(LongListState state) {
+        return CollectionUtils.sum(state.values);
+    }
+
+    /**
+     * Benchmark: sum(LongBuffer) over a direct buffer
+     */
+    @Benchmark
+    public long benchmarkSumDirectBuffer(DirectBufferState state) {
+        return CollectionUtils.sum(state.values);
+    }
+
     /**
      * Benchmark: addNumber with super wildcard
      */
@@ -133,6 +436,7 @@ public class CollectionUtilsBenchmark {
     public static void main(String[] args) throws RunnerException {
         Options opt = new OptionsBuilder()
                 .include(CollectionUtilsBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
                 .forks(1)
                 .warmupIterations(3)
                 .measurementIterations(5)
@@ -0,0 +1,119 @@
+package com.baeldung.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.baeldung.inttoenum.DeliveryTimeAggregator;
+import com.baeldung.inttoenum.PizzaStatus;
+
+/**
+ * JMH Microbenchmarks for concurrent delivery-time aggregation.
+ * One update operation takes an order through its whole life: add, ORDERED to READY,
+ * READY to DELIVERED. The main method runs every benchmark at 1 to 64 threads, since
+ * the thread count cannot be a JMH parameter.
+ *
+ * Run with: mvn clean package && java -jar target/benchmarks.jar DeliveryTimeAggregatorBenchmark -t 8
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, warmups = 0)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class DeliveryTimeAggregatorBenchmark {
+
+    private static final int ORDER_COUNT = 1_000_000;
+    private static final PizzaStatus[] STATUSES = PizzaStatus.values();
+
+    private DeliveryTimeAggregator aggregator;
+    private AtomicLongArray atomicCounts;
+    private List<PizzaStatus> openOrders;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        aggregator = new DeliveryTimeAggregator();
+        atomicCounts = new AtomicLongArray(STATUSES.length);
+        openOrders = new ArrayList<>(ORDER_COUNT);
+        Random random = new Random(42);
+        for (int i = 0; i < ORDER_COUNT; i++) {
+            PizzaStatus status = STATUSES[random.nextInt(STATUSES.length)];
+            openOrders.add(status);
+            aggregator.add(status);
+            atomicCounts.incrementAndGet(status.ordinal());
+        }
+    }
+
+    /**
+     * Benchmark: order life cycle on striped LongAdder counters
+     */
+    @Benchmark
+    public void benchmarkLongAdderUpdates() {
+        aggregator.add(PizzaStatus.ORDERED);
+        aggregator.transition(PizzaStatus.ORDERED, PizzaStatus.READY);
+        aggregator.transition(PizzaStatus.READY, PizzaStatus.DELIVERED);
+    }
+
+    /**
+     * Benchmark: same life cycle on one AtomicLong per status (contended CAS)
+     */
+    @Benchmark
+    public void benchmarkAtomicLongUpdates() {
+        atomicCounts.incrementAndGet(PizzaStatus.ORDERED.ordinal());
+        atomicCounts.incrementAndGet(PizzaStatus.READY.ordinal());
+        atomicCounts.decrementAndGet(PizzaStatus.ORDERED.ordinal());
+        atomicCounts.incrementAndGet(PizzaStatus.DELIVERED.ordinal());
+        atomicCounts.decrementAndGet(PizzaStatus.READY.ordinal());
+    }
+
+    /**
+     * Benchmark: O(1) query of the total remaining time
+     */
+    @Benchmark
+    public long benchmarkAggregatorQuery() {
+        return aggregator.totalRemainingTime();
+    }
+
+    /**
+     * Benchmark: boxed stream over 1M open orders (previous dashboard query)
+     */
+    @Benchmark
+    public long benchmarkStreamQuery() {
+        return openOrders.stream().mapToLong(PizzaStatus::getTimeToDelivery).sum();
+    }
+
+    /**
+     * Main method to run benchmarks at 1 to 64 threads
+     */
+    public static void main(String[] args) throws RunnerException {
+        for (int threads : new int[] {1, 2, 4, 8, 16, 32, 64}) {
+            Options opt = new OptionsBuilder()
+                    .include(DeliveryTimeAggregatorBenchmark.class.getSimpleName())
+                    .threads(threads)
+                    .forks(1)
+                    .warmupIterations(3)
+                    .measurementIterations(5)
+                    .build();
+
+            new Runner(opt).run();
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.baeldung.benchmarks;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.baeldung.inttoenum.IntKeyLookup;
+
+/**
+ * JMH Microbenchmarks for int-coded constant lookups with 3, 50 and 5000 constants.
+ * An enum of 5000 constants does not compile (its static initializer exceeds the 64 KiB
+ * method limit), so the constants are plain objects decoded through {@link IntKeyLookup},
+ * the table behind {@code IntEnumCodec.decode}.
+ * Codes are either contiguous (dense layout) or random (perfect hash).
+ * One operation decodes 1024 codes, 1 in 8 of them unknown.
+ *
+ * Run with: mvn clean package && java -jar target/benchmarks.jar IntEnumCodecBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, warmups = 0)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class IntEnumCodecBenchmark {
+
+    private static final int EVENT_COUNT = 1024;
+
+    @Param({"3", "50", "5000"})
+    private int constants;
+
+    @Param({"contiguous", "sparse"})
+    private String codes;
+
+    private int[] events;
+    private IntKeyLookup<Constant> lookup;
+    private Map<Integer, Constant> hashMap;
+
+    static final class Constant {
+        final int code;
+
+        Constant(int code) {
+            this.code = code;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Random random = new Random(42);
+        Set<Integer> used = new HashSet<>();
+        Constant[] values = new Constant[constants];
+        for (int i = 0; i < constants; i++) {
+            int code = "contiguous".equals(codes) ? i : random.nextInt();
+            if (!used.add(code)) {
+                i--;
+                continue;
+            }
+            values[i] = new Constant(code);
+        }
+        lookup = IntKeyLookup.of(values, constant -> constant.code);
+        hashMap = new HashMap<>();
+        for (Constant constant : values) {
+            hashMap.put(constant.code, constant);
+        }
+        events = new int[EVENT_COUNT];
+        for (int i = 0; i < EVENT_COUNT; i++) {
+            events[i] = random.nextInt(8) == 0 ? Integer.MIN_VALUE + 1 + random.nextInt(1000)
+                : values[random.nextInt(constants)].code;
+        }
+        System.out.println();
+        System.out.println("constants=" + constants + " codes=" + codes + " strategy=" + lookup.strategy());
+    }
+
+    /**
+     * Benchmark: boxed HashMap lookup (the per-enum static map pattern)
+     */
+    @Benchmark
+    public void benchmarkHashMap(Blackhole blackhole) {
+        for (int event : events) {
+            blackhole.consume(hashMap.get(event));
+        }
+    }
+
+    /**
+     * Benchmark: lookup laid out for the key distribution
+     */
+    @Benchmark
+    public void benchmarkIntKeyLookup(Blackhole blackhole) {
+        for (int event : events) {
+            blackhole.consume(lookup.get(event));
+        }
+    }
+
+    /**
+     * Main method to run benchmarks
+     */
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(IntEnumCodecBenchmark.class.getSimpleName())
+                .forks(1)
+                .warmupIterations(3)
+                .measurementIterations(5)
+                .build();
+
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,113 @@
+package com.baeldung.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.baeldung.validation.LengthLimits;
+
+/**
+ * JMH Microbenchmarks for length checks with a share of over-limit inputs.
+ * One operation checks 1024 strings, overLimitPercent of which exceed the limit.
+ *
+ * Run with: mvn clean package && java -jar target/benchmarks.jar LengthLimitBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, warmups = 0)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class LengthLimitBenchmark {
+
+    private static final int INPUT_COUNT = 1024;
+    private static final int LIMIT = 16;
+
+    @Param({"0", "10", "50"})
+    private int overLimitPercent;
+
+    private String[] inputs;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Random random = new Random(42);
+        inputs = new String[INPUT_COUNT];
+        for (int i = 0; i < INPUT_COUNT; i++) {
+            inputs[i] = random.nextInt(100) < overLimitPercent ? "Une chaîne bien trop longue" : "Jean Dupont";
+        }
+    }
+
+    /**
+     * Benchmark: current contract, IllegalArgumentException with stack trace
+     */
+    @Benchmark
+    public int benchmarkThrowing() {
+        int total = 0;
+        for (String input : inputs) {
+            try {
+                total += LengthLimits.lengthOrThrow(input, LIMIT);
+            } catch (IllegalArgumentException e) {
+                total--;
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Benchmark: stackless exception, same throwing contract
+     */
+    @Benchmark
+    public int benchmarkStacklessThrowing() {
+        int total = 0;
+        for (String input : inputs) {
+            try {
+                total += LengthLimits.lengthOrThrowStackless(input, LIMIT);
+            } catch (IllegalArgumentException e) {
+                total--;
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Benchmark: status code, no exception
+     */
+    @Benchmark
+    public int benchmarkStatusCode() {
+        int total = 0;
+        for (String input : inputs) {
+            total += LengthLimits.lengthOrStatus(input, LIMIT);
+        }
+        return total;
+    }
+
+    /**
+     * Main method to run benchmarks
+     */
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(LengthLimitBenchmark.class.getSimpleName())
+                .forks(1)
+                .warmupIterations(3)
+                .measurementIterations(5)
+                .build();
+
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,113 @@
+package com.baeldung.benchmarks;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.baeldung.validation.LengthLimits;
+import com.baeldung.validation.LengthUnit;
+
+/**
+ * JMH Microbenchmarks for limit checks in UTF-8 bytes and graphemes on long inputs.
+ * The limit is fixed at 255 while the input grows: the early-exit measurement should stay
+ * flat, the full measurement should grow with the input.
+ *
+ * Run with: mvn clean package && java -jar target/benchmarks.jar LengthUnitBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, warmups = 0)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class LengthUnitBenchmark {
+
+    private static final int LIMIT = 255;
+    private static final Pattern GRAPHEME = Pattern.compile("\\X");
+
+    @Param({"1024", "65536", "1048576"})
+    private int inputLength;
+
+    private String input;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        StringBuilder sb = new StringBuilder(inputLength);
+        String pattern = "Hélène Dupont-Müller ";
+        while (sb.length() < inputLength) {
+            sb.append(pattern);
+        }
+        sb.setLength(inputLength);
+        input = sb.toString();
+    }
+
+    /**
+     * Benchmark: UTF-8 byte limit with early exit
+     */
+    @Benchmark
+    public int benchmarkUtf8BytesEarlyExit() {
+        return LengthLimits.measure(input, LengthUnit.UTF8_BYTES, LIMIT);
+    }
+
+    /**
+     * Benchmark: UTF-8 byte limit by encoding the whole input (reference)
+     */
+    @Benchmark
+    public int benchmarkUtf8BytesFullEncoding() {
+        int bytes = input.getBytes(StandardCharsets.UTF_8).length;
+        return bytes > LIMIT ? LengthLimits.OVER_LIMIT : bytes;
+    }
+
+    /**
+     * Benchmark: grapheme limit with early exit
+     */
+    @Benchmark
+    public int benchmarkGraphemesEarlyExit() {
+        return LengthLimits.measure(input, LengthUnit.GRAPHEMES, LIMIT);
+    }
+
+    /**
+     * Benchmark: grapheme limit by counting every cluster (reference)
+     */
+    @Benchmark
+    public int benchmarkGraphemesFullCount() {
+        Matcher clusters = GRAPHEME.matcher(input);
+        int count = 0;
+        while (clusters.find()) {
+            count++;
+        }
+        return count > LIMIT ? LengthLimits.OVER_LIMIT : count;
+    }
+
+    /**
+     * Main method to run benchmarks
+     */
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(LengthUnitBenchmark.class.getSimpleName())
+                .forks(1)
+                .warmupIterations(3)
+                .measurementIterations(5)
+                .build();
+
+        new Runner(opt).run();
+    }
+}
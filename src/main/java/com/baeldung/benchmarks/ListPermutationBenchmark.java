@@ -0,0 +1,168 @@
+package com.baeldung.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.baeldung.generics.CollectionUtils;
+
+/**
+ * JMH Microbenchmarks for reordering whole lists, ArrayList against LinkedList, at 10k and 1M
+ * elements ({@code list} = "kind:size"). Each operation reorders the list in place.
+ *
+ * The swap-loop shuffle costs O(n) per swap on a LinkedList, about 10^12 node hops for 1M
+ * elements: it has its own state without that case.
+ *
+ * Run with: mvn clean package && java -jar target/benchmarks.jar ListPermutationBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, warmups = 0)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ListPermutationBenchmark {
+
+    static List<Integer> createList(String spec) {
+        String[] parts = spec.split(":");
+        int size = Integer.parseInt(parts[1]);
+        List<Integer> list = "LinkedList".equals(parts[0]) ? new LinkedList<>() : new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            list.add(i);
+        }
+        return list;
+    }
+
+    @State(Scope.Benchmark)
+    public static class BulkState {
+
+        @Param({"ArrayList:10000", "ArrayList:1000000", "LinkedList:10000", "LinkedList:1000000"})
+        public String list;
+
+        List<Integer> values;
+        int[] permutation;
+        SplittableRandom random;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            values = createList(list);
+            random = new SplittableRandom(42);
+            List<Integer> order = createList("ArrayList:" + values.size());
+            Collections.shuffle(order, new Random(42));
+            permutation = order.stream().mapToInt(Integer::intValue).toArray();
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class SwapLoopState {
+
+        @Param({"ArrayList:10000", "ArrayList:1000000", "LinkedList:10000"})
+        public String swapList;
+
+        List<Integer> values;
+        SplittableRandom random;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            values = createList(swapList);
+            random = new SplittableRandom(42);
+        }
+    }
+
+    /**
+     * Benchmark: Fisher-Yates through CollectionUtils.swap, one wildcard capture and two set calls per swap
+     */
+    @Benchmark
+    public List<Integer> benchmarkSwapLoopShuffle(SwapLoopState state) {
+        List<Integer> values = state.values;
+        for (int i = values.size() - 1; i > 0; i--) {
+            CollectionUtils.swap(values, i, state.random.nextInt(i + 1));
+        }
+        return values;
+    }
+
+    /**
+     * Benchmark: CollectionUtils.shuffle (in place, or array dump and single write-back)
+     */
+    @Benchmark
+    public List<Integer> benchmarkShuffle(BulkState state) {
+        CollectionUtils.shuffle(state.values, state.random);
+        return state.values;
+    }
+
+    /**
+     * Benchmark: Collections.shuffle with java.util.Random (JDK reference)
+     */
+    @Benchmark
+    public List<Integer> benchmarkCollectionsShuffle(BulkState state, RandomState random) {
+        Collections.shuffle(state.values, random.random);
+        return state.values;
+    }
+
+    /**
+     * Benchmark: CollectionUtils.permute with a fixed random permutation
+     */
+    @Benchmark
+    public List<Integer> benchmarkPermute(BulkState state) {
+        CollectionUtils.permute(state.values, state.permutation);
+        return state.values;
+    }
+
+    /**
+     * Benchmark: CollectionUtils.reverse of the whole list
+     */
+    @Benchmark
+    public List<Integer> benchmarkReverse(BulkState state) {
+        CollectionUtils.reverse(state.values, 0, state.values.size());
+        return state.values;
+    }
+
+    /**
+     * Benchmark: CollectionUtils.rotate of the whole list by a third of its size
+     */
+    @Benchmark
+    public List<Integer> benchmarkRotate(BulkState state) {
+        CollectionUtils.rotate(state.values, 0, state.values.size(), state.values.size() / 3);
+        return state.values;
+    }
+
+    @State(Scope.Benchmark)
+    public static class RandomState {
+        final Random random = new Random(42);
+    }
+
+    /**
+     * Main method to run benchmarks
+     */
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(ListPermutationBenchmark.class.getSimpleName())
+                .forks(1)
+                .warmupIterations(3)
+                .measurementIterations(5)
+                .build();
+
+        new Runner(opt).run();
+    }
+}
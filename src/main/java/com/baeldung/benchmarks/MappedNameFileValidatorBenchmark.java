@@ -0,0 +1,95 @@
+package com.baeldung.benchmarks;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.baeldung.validation.FileValidationSummary;
+import com.baeldung.validation.MappedNameFileValidator;
+
+/**
+ * JMH benchmark for memory-mapped file validation.
+ * Throughput in MB/s is fileSizeMb divided by the reported time per operation (in seconds).
+ *
+ * Run with: mvn clean package && java -jar target/benchmarks.jar MappedNameFileValidatorBenchmark -prof gc
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, warmups = 0)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class MappedNameFileValidatorBenchmark {
+
+    @Param({"256"})
+    private int fileSizeMb;
+
+    private Path file;
+    private long invalidLines;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        String[] samples = {"Jean Dupont", "Marie Claire", "Hélène Müller", "Jean123", "  Zoë  ", "O'Brien"};
+        Random random = new Random(42);
+        file = Files.createTempFile("names", ".txt");
+        long target = fileSizeMb * 1024L * 1024L;
+        long written = 0;
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(file), 1 << 16)) {
+            while (written < target) {
+                byte[] line = (samples[random.nextInt(samples.length)] + '\n').getBytes(StandardCharsets.UTF_8);
+                out.write(line);
+                written += line.length;
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    /**
+     * Benchmark: validate the whole file, counting invalid lines
+     */
+    @Benchmark
+    public FileValidationSummary benchmarkValidateMappedFile() throws IOException {
+        return MappedNameFileValidator.validate(file, line -> invalidLines++);
+    }
+
+    /**
+     * Main method to run benchmarks
+     */
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(MappedNameFileValidatorBenchmark.class.getSimpleName())
+                .forks(1)
+                .warmupIterations(2)
+                .measurementIterations(5)
+                .build();
+
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,144 @@
+package com.baeldung.benchmarks;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.SplittableRandom;
+
+import com.baeldung.generics.Animal;
+import com.baeldung.generics.AnimalStore;
+import com.baeldung.generics.AnimalSymbols;
+import com.baeldung.generics.Cat;
+import com.baeldung.generics.Dog;
+import com.baeldung.generics.OffHeapAnimalStore;
+
+/**
+ * Load time and garbage collection cost of a large population, kept off-heap in an
+ * {@link OffHeapAnimalStore} or rebuilt on the heap as Cat/Dog objects.
+ *
+ * The first run writes {@code count} animals (8 types, 1M distinct names, one dog in four) to
+ * the file. Each run then loads it, scans it once, and times full collections and a burst of
+ * short-lived allocations with the population live. On the heap, animals are interned through
+ * shared {@link AnimalSymbols}, the most compact object layout available, so that 50M animals fit.
+ * Like AnimalFootprint, a plain main rather than JMH: each figure is a one-off cost.
+ *
+ * Run with: java --enable-preview -Xmx3500m -cp target/classes com.baeldung.benchmarks.OffHeapAnimalLoad [offheap|heap] [count] [file]
+ */
+public class OffHeapAnimalLoad {
+
+    private static final int TYPES = 8;
+    private static final int NAMES = 1_000_000;
+    private static final int FULL_GCS = 5;
+    private static final long CHURN_BYTES = 4L << 30;
+
+    public static void main(String[] args) throws Exception {
+        boolean offHeap = args.length == 0 || "offheap".equals(args[0]);
+        long count = args.length > 1 ? Long.parseLong(args[1]) : 50_000_000L;
+        Path file = Paths.get(args.length > 2 ? args[2] : "animals-" + count + ".bin");
+
+        if (!Files.exists(file)) {
+            long start = System.nanoTime();
+            write(file, count);
+            System.out.printf("wrote %s (%,d bytes) in %d ms%n", file, Files.size(file), millisSince(start));
+        }
+
+        long start = System.nanoTime();
+        OffHeapAnimalStore store = OffHeapAnimalStore.load(file);
+        Animal[] animals = offHeap ? null : toHeap(store);
+        long loadMillis = millisSince(start);
+        start = System.nanoTime();
+        long cats = offHeap ? store.count(AnimalStore.Kind.CAT) : countCats(animals);
+        System.out.printf("%s: loaded %,d animals in %d ms, first scan %d ms (%,d cats)%n",
+            offHeap ? "offheap" : "heap", store.size(), loadMillis, millisSince(start), cats);
+        if (!offHeap) {
+            store.close();
+        }
+
+        long gcMillis = gcMillis();
+        start = System.nanoTime();
+        for (int i = 0; i < FULL_GCS; i++) {
+            System.gc();
+        }
+        System.out.printf("full GC: %d ms on average, heap used %,d bytes%n", (gcMillis() - gcMillis) / FULL_GCS,
+            Runtime.getRuntime().totalMemory() - Runtime.getRuntime().freeMemory());
+
+        long collections = gcCount();
+        gcMillis = gcMillis();
+        start = System.nanoTime();
+        long checksum = churn();
+        System.out.printf("churn of %,d bytes: %d ms, %d collections taking %d ms (%d)%n", CHURN_BYTES,
+            millisSince(start), gcCount() - collections, gcMillis() - gcMillis, checksum);
+
+        System.out.println(offHeap ? store.get(store.size() - 1) : animals[animals.length - 1]);
+        if (offHeap) {
+            store.close();
+        }
+    }
+
+    private static void write(Path file, long count) throws Exception {
+        SplittableRandom random = new SplittableRandom(42);
+        try (OffHeapAnimalStore store = OffHeapAnimalStore.allocate(count, 12 * count)) {
+            for (long i = 0; i < count; i++) {
+                AnimalStore.Kind kind = random.nextInt(4) == 0 ? AnimalStore.Kind.DOG : AnimalStore.Kind.CAT;
+                store.add(kind, "Type" + random.nextInt(TYPES), "chat" + random.nextInt(NAMES));
+            }
+            store.save(file);
+        }
+    }
+
+    private static Animal[] toHeap(OffHeapAnimalStore store) {
+        AnimalSymbols symbols = new AnimalSymbols();
+        Animal[] animals = new Animal[Math.toIntExact(store.size())];
+        for (int i = 0; i < animals.length; i++) {
+            String type = store.type(i);
+            String name = store.name(i);
+            animals[i] = store.kind(i) == AnimalStore.Kind.CAT ? Cat.interned(type, name, symbols) : Dog.interned(type, name, symbols);
+        }
+        return animals;
+    }
+
+    private static long countCats(Animal[] animals) {
+        long count = 0;
+        for (Animal animal : animals) {
+            if (animal instanceof Cat) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Allocates short-lived arrays, as a request-serving application would.
+     */
+    private static long churn() {
+        long checksum = 0;
+        for (long allocated = 0; allocated < CHURN_BYTES; allocated += 1040) {
+            byte[] garbage = new byte[1024];
+            garbage[(int) (allocated & 1023)] = 1;
+            checksum += garbage[0];
+        }
+        return checksum;
+    }
+
+    private static long gcMillis() {
+        long millis = 0;
+        for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+            millis += collector.getCollectionTime();
+        }
+        return millis;
+    }
+
+    private static long gcCount() {
+        long count = 0;
+        for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+            count += collector.getCollectionCount();
+        }
+        return count;
+    }
+
+    private static long millisSince(long startNanos) {
+        return (System.nanoTime() - startNanos) / 1_000_000;
+    }
+}
@@ -0,0 +1,106 @@
+package com.baeldung.benchmarks;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.baeldung.inttoenum.OrderStateMachine;
+import com.baeldung.inttoenum.PizzaStatus;
+
+/**
+ * JMH Microbenchmarks for racing order transitions.
+ * Each operation advances a random order one step, closing and reopening it once delivered.
+ * Fewer orders mean more threads racing on the same ones. The main method runs every
+ * benchmark at 1 to 64 threads.
+ *
+ * Run with: mvn clean package && java -jar target/benchmarks.jar OrderStateMachineBenchmark -t 8
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, warmups = 0)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class OrderStateMachineBenchmark {
+
+    private static final PizzaStatus[] STATUSES = PizzaStatus.values();
+
+    @Param({"64", "1048576"})
+    private int orders;
+
+    private OrderStateMachine machine;
+    private ConcurrentHashMap<Long, PizzaStatus> map;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        machine = new OrderStateMachine(orders);
+        map = new ConcurrentHashMap<>(orders * 2);
+        for (int id = 0; id < orders; id++) {
+            machine.open(id);
+            map.put((long) id, PizzaStatus.ORDERED);
+        }
+    }
+
+    /**
+     * Benchmark: CAS on a byte per order
+     */
+    @Benchmark
+    public OrderStateMachine.Result benchmarkStateMachine() {
+        int id = ThreadLocalRandom.current().nextInt(orders);
+        OrderStateMachine.Result result = machine.advance(id);
+        if (result == OrderStateMachine.Result.ILLEGAL && machine.close(id) == OrderStateMachine.Result.APPLIED) {
+            return machine.open(id);
+        }
+        return result;
+    }
+
+    /**
+     * Benchmark: conditional replace in a ConcurrentHashMap (reference)
+     */
+    @Benchmark
+    public boolean benchmarkConcurrentHashMap() {
+        Long id = (long) ThreadLocalRandom.current().nextInt(orders);
+        PizzaStatus current = map.get(id);
+        if (current == null) {
+            return false;
+        }
+        if (current == PizzaStatus.DELIVERED) {
+            return map.remove(id, current) && map.putIfAbsent(id, PizzaStatus.ORDERED) == null;
+        }
+        return map.replace(id, current, STATUSES[current.ordinal() + 1]);
+    }
+
+    /**
+     * Main method to run benchmarks at 1 to 64 threads
+     */
+    public static void main(String[] args) throws RunnerException {
+        for (int threads : new int[] {1, 2, 4, 8, 16, 32, 64}) {
+            Options opt = new OptionsBuilder()
+                    .include(OrderStateMachineBenchmark.class.getSimpleName())
+                    .threads(threads)
+                    .forks(1)
+                    .warmupIterations(3)
+                    .measurementIterations(5)
+                    .build();
+
+            new Runner(opt).run();
+        }
+    }
+}
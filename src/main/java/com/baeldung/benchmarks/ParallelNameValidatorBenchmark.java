@@ -0,0 +1,102 @@
+package com.baeldung.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.baeldung.validation.BatchNameValidator;
+import com.baeldung.validation.BulkValidationResult;
+import com.baeldung.validation.ParallelNameValidator;
+
+/**
+ * JMH scaling benchmark for fork/join bulk validation.
+ * One operation validates four million names; "N" uses every available core.
+ *
+ * Run with: mvn clean package && java -jar target/benchmarks.jar ParallelNameValidatorBenchmark
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, warmups = 0)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ParallelNameValidatorBenchmark {
+
+    private static final int NAME_COUNT = 4_000_000;
+
+    @Param({"1", "2", "4", "8", "N"})
+    private String threads;
+
+    @Param({"8192"})
+    private int threshold;
+
+    private String[] names;
+    private ForkJoinPool pool;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        String[] samples = {"Jean Dupont", "Marie Claire", "Hélène Müller", "Jean123", "  Zoë  ", "O'Brien"};
+        Random random = new Random(42);
+        names = new String[NAME_COUNT];
+        for (int i = 0; i < NAME_COUNT; i++) {
+            names[i] = samples[random.nextInt(samples.length)];
+        }
+        int parallelism = "N".equals(threads)
+            ? Runtime.getRuntime().availableProcessors()
+            : Integer.parseInt(threads);
+        pool = new ForkJoinPool(parallelism);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    /**
+     * Benchmark: fork/join validation with the configured parallelism
+     */
+    @Benchmark
+    public BulkValidationResult benchmarkParallelValidate() {
+        return ParallelNameValidator.validate(names, pool, threshold);
+    }
+
+    /**
+     * Benchmark: sequential batch validation (reference point for the speedup)
+     */
+    @Benchmark
+    public int benchmarkSequentialCount() {
+        return BatchNameValidator.countValid(names);
+    }
+
+    /**
+     * Main method to run benchmarks
+     */
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(ParallelNameValidatorBenchmark.class.getSimpleName())
+                .forks(1)
+                .warmupIterations(3)
+                .measurementIterations(5)
+                .build();
+
+        new Runner(opt).run();
+    }
+}
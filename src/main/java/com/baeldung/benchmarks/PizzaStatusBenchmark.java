@@ -0,0 +1,102 @@
+package com.baeldung.benchmarks;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.baeldung.inttoenum.PizzaStatus;
+
+/**
+ * JMH Microbenchmarks for decoding PizzaStatus from delivery-time codes.
+ * One operation decodes 1024 codes from a simulated event stream; {@code codes}
+ * selects known codes only ("hit"), unknown codes only ("miss") or half of each ("mixed").
+ *
+ * Run with: mvn clean package && java -jar target/benchmarks.jar PizzaStatusBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, warmups = 0)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class PizzaStatusBenchmark {
+
+    private static final int EVENT_COUNT = 1024;
+
+    @Param({"hit", "miss", "mixed"})
+    private String codes;
+
+    private int[] events;
+    private Map<Integer, PizzaStatus> hashMap;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        // Previous implementation of castIntToEnum, kept as the reference
+        hashMap = new HashMap<>();
+        for (PizzaStatus status : PizzaStatus.values()) {
+            hashMap.put(status.getTimeToDelivery(), status);
+        }
+        PizzaStatus[] statuses = PizzaStatus.values();
+        int[] unknown = {1, 3, 4, 6, 200, -1};
+        Random random = new Random(42);
+        events = new int[EVENT_COUNT];
+        for (int i = 0; i < EVENT_COUNT; i++) {
+            boolean hit = "hit".equals(codes) || ("mixed".equals(codes) && random.nextBoolean());
+            events[i] = hit ? statuses[random.nextInt(statuses.length)].getTimeToDelivery()
+                : unknown[random.nextInt(unknown.length)];
+        }
+    }
+
+    /**
+     * Benchmark: boxed HashMap lookup (previous implementation)
+     */
+    @Benchmark
+    public void benchmarkHashMapLookup(Blackhole blackhole) {
+        for (int event : events) {
+            blackhole.consume(hashMap.get(event));
+        }
+    }
+
+    /**
+     * Benchmark: castIntToEnum over the dense lookup table
+     */
+    @Benchmark
+    public void benchmarkCastIntToEnum(Blackhole blackhole) {
+        for (int event : events) {
+            blackhole.consume(PizzaStatus.castIntToEnum(event));
+        }
+    }
+
+    /**
+     * Main method to run benchmarks
+     */
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(PizzaStatusBenchmark.class.getSimpleName())
+                .forks(1)
+                .warmupIterations(3)
+                .measurementIterations(5)
+                .build();
+
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,175 @@
+package com.baeldung.benchmarks;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.baeldung.inttoenum.PizzaStatus;
+import com.baeldung.inttoenum.PizzaStatusCodec;
+
+/**
+ * JMH Microbenchmarks for bulk PizzaStatus encoding.
+ * One operation encodes or decodes 1M statuses, either random ("random") or in runs of
+ * about 1000 ("runs"), against a heap or direct buffer. The "encodedBytes" and "statuses"
+ * counters give the encoded MB/s and statuses/s; their ratio is the size per status.
+ *
+ * Run with: mvn clean package && java -jar target/benchmarks.jar PizzaStatusCodecBenchmark
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, warmups = 0)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class PizzaStatusCodecBenchmark {
+
+    private static final int STATUS_COUNT = 1_000_000;
+
+    @Param({"heap", "direct"})
+    private String bufferType;
+
+    @Param({"random", "runs"})
+    private String distribution;
+
+    private PizzaStatus[] statuses;
+    private PizzaStatus[] decoded;
+    private ByteBuffer buffer;
+    private ByteBuffer packed;
+    private ByteBuffer runs;
+
+    /**
+     * Volume processed, reported by JMH per second.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Volume {
+        public long statuses;
+        public long encodedBytes;
+    }
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Random random = new Random(42);
+        PizzaStatus[] values = PizzaStatus.values();
+        int meanRun = "runs".equals(distribution) ? 1000 : 1;
+        statuses = new PizzaStatus[STATUS_COUNT];
+        PizzaStatus current = values[0];
+        for (int i = 0; i < STATUS_COUNT; i++) {
+            if (random.nextInt(meanRun) == 0) {
+                current = values[random.nextInt(values.length)];
+            }
+            statuses[i] = current;
+        }
+        decoded = new PizzaStatus[STATUS_COUNT];
+        buffer = allocate(STATUS_COUNT * 2);
+        packed = allocate(PizzaStatusCodec.packedSize(STATUS_COUNT));
+        PizzaStatusCodec.pack(statuses, 0, STATUS_COUNT, packed);
+        packed.flip();
+        runs = allocate(STATUS_COUNT * 2);
+        PizzaStatusCodec.encodeRuns(statuses, 0, STATUS_COUNT, runs);
+        runs.flip();
+        System.out.println();
+        System.out.printf("%s/%s: packed %.3f bytes/status, runs %.3f bytes/status%n", bufferType, distribution,
+            (double) packed.remaining() / STATUS_COUNT, (double) runs.remaining() / STATUS_COUNT);
+    }
+
+    private ByteBuffer allocate(int capacity) {
+        return "direct".equals(bufferType) ? ByteBuffer.allocateDirect(capacity) : ByteBuffer.allocate(capacity);
+    }
+
+    /**
+     * Benchmark: 2-bit packing
+     */
+    @Benchmark
+    public ByteBuffer benchmarkPack(Volume volume) {
+        buffer.clear();
+        PizzaStatusCodec.pack(statuses, 0, STATUS_COUNT, buffer);
+        volume.statuses += STATUS_COUNT;
+        volume.encodedBytes += buffer.position();
+        return buffer;
+    }
+
+    /**
+     * Benchmark: 2-bit unpacking
+     */
+    @Benchmark
+    public PizzaStatus[] benchmarkUnpack(Volume volume) {
+        PizzaStatusCodec.unpack(packed.duplicate(), STATUS_COUNT, decoded, 0);
+        volume.statuses += STATUS_COUNT;
+        volume.encodedBytes += packed.remaining();
+        return decoded;
+    }
+
+    /**
+     * Benchmark: run-length encoding
+     */
+    @Benchmark
+    public ByteBuffer benchmarkEncodeRuns(Volume volume) {
+        buffer.clear();
+        volume.encodedBytes += PizzaStatusCodec.encodeRuns(statuses, 0, STATUS_COUNT, buffer);
+        volume.statuses += STATUS_COUNT;
+        return buffer;
+    }
+
+    /**
+     * Benchmark: run-length decoding
+     */
+    @Benchmark
+    public PizzaStatus[] benchmarkDecodeRuns(Volume volume) {
+        PizzaStatusCodec.decodeRuns(runs.duplicate(), STATUS_COUNT, decoded, 0);
+        volume.statuses += STATUS_COUNT;
+        volume.encodedBytes += runs.remaining();
+        return decoded;
+    }
+
+    /**
+     * Benchmark: Java serialization, one status at a time (reference)
+     */
+    @Benchmark
+    public byte[] benchmarkObjectStream(Volume volume) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(STATUS_COUNT * 8);
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            for (PizzaStatus status : statuses) {
+                out.writeObject(status);
+            }
+        }
+        volume.statuses += STATUS_COUNT;
+        volume.encodedBytes += bytes.size();
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Main method to run benchmarks
+     */
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(PizzaStatusCodecBenchmark.class.getSimpleName())
+                .forks(1)
+                .warmupIterations(3)
+                .measurementIterations(5)
+                .build();
+
+        new Runner(opt).run();
+    }
+}
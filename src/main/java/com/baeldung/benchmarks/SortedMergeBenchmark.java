@@ -0,0 +1,113 @@
+package com.baeldung.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.baeldung.generics.CollectionUtils;
+
+/**
+ * JMH Microbenchmarks for merging k pre-sorted shards of 2^20 {@link Comparable} elements in total.
+ * Elements are random Integers in natural order: with few distinct keys, such as cats ordered by
+ * name length, TimSort's galloping turns most of a merge into array copies and the comparison
+ * would say little about the general case.
+ *
+ * Run with: mvn clean package && java -jar target/benchmarks.jar SortedMergeBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, warmups = 0)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class SortedMergeBenchmark {
+
+    private static final int ELEMENTS = 1 << 20;
+
+    @Param({"2", "16", "256"})
+    private int k;
+
+    private List<List<Integer>> shards;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        SplittableRandom random = new SplittableRandom(42);
+        shards = new ArrayList<>(k);
+        for (int shard = 0; shard < k; shard++) {
+            List<Integer> sorted = new ArrayList<>(ELEMENTS / k);
+            for (int i = 0; i < ELEMENTS / k; i++) {
+                sorted.add(random.nextInt());
+            }
+            sorted.sort(null);
+            shards.add(sorted);
+        }
+    }
+
+    /**
+     * Benchmark: concatenate the shards then sort (TimSort finds the k runs)
+     */
+    @Benchmark
+    public List<Integer> benchmarkConcatThenSort() {
+        List<Integer> all = CollectionUtils.concatView(shards).materialize();
+        all.sort(null);
+        return all;
+    }
+
+    /**
+     * Benchmark: loser-tree k-way merge into a presized list
+     */
+    @Benchmark
+    public List<Integer> benchmarkMergeSorted() {
+        return CollectionUtils.mergeSorted(shards);
+    }
+
+    /**
+     * Benchmark: lazy k-way merge consumed element by element, without an output list
+     */
+    @Benchmark
+    public void benchmarkMergeSortedIterator(Blackhole blackhole) {
+        List<Iterator<Integer>> iterators = new ArrayList<>(k);
+        for (List<Integer> shard : shards) {
+            iterators.add(shard.iterator());
+        }
+        Iterator<Integer> merged = CollectionUtils.mergeSortedIterator(iterators, Comparator.naturalOrder());
+        while (merged.hasNext()) {
+            blackhole.consume(merged.next());
+        }
+    }
+
+    /**
+     * Main method to run benchmarks
+     */
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(SortedMergeBenchmark.class.getSimpleName())
+                .forks(1)
+                .warmupIterations(3)
+                .measurementIterations(5)
+                .build();
+
+        new Runner(opt).run();
+    }
+}
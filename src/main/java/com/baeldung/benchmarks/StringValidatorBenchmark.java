@@ -17,9 +17,12 @@ import org.openjdk.jmh.runner.RunnerException;
 import org.openjdk.jmh.runner.options.Options;
 import org.openjdk.jmh.runner.options.OptionsBuilder;
 
+import com.baeldung.validation.NameScanner;
+
 /**
  * JMH Microbenchmarks for validation performance.
- * Measures performance of string validation methods using regex.
+ * Measures performance of string validation methods, comparing the former
+ * regex implementation of estNomValide with the NameScanner engine.
  * 
  * Run with: mvn clean package && java -jar target/benchmarks.jar
  */
@@ -37,6 +40,11 @@ public class StringValidatorBenchmark {
     private String defaultValue = "Default";
     private String shortString = "Test";
     private int limit = 100;
+
+    // Inputs for regex vs scanner comparison (ASCII, accented, supplementary plane)
+    private String asciiName = "  Jean Pierre Dupont  ";
+    private String accentedName = "  Hélène Françoise Müller  ";
+    private String supplementaryName = "  \uD800\uDF30\uD800\uDF31 \uD840\uDC00\uD840\uDC01  ";
     
     // Pre-compiled regex pattern for performance testing
     private Pattern namePattern = Pattern.compile("^[\\p{L}\\s]+$");
@@ -89,6 +97,64 @@ public class StringValidatorBenchmark {
         return Pattern.compile("^[\\p{L}\\s]+$");
     }
 
+    /**
+     * Benchmark: estNomValide regex path (trim + matcher) on ASCII input
+     */
+    @Benchmark
+    public boolean benchmarkEstNomValideRegexAscii() {
+        return regexEstNomValide(asciiName);
+    }
+
+    /**
+     * Benchmark: estNomValide scanner path on ASCII input
+     */
+    @Benchmark
+    public boolean benchmarkEstNomValideScannerAscii() {
+        return NameScanner.isValidName(asciiName);
+    }
+
+    /**
+     * Benchmark: estNomValide regex path on accented Latin input
+     */
+    @Benchmark
+    public boolean benchmarkEstNomValideRegexAccented() {
+        return regexEstNomValide(accentedName);
+    }
+
+    /**
+     * Benchmark: estNomValide scanner path on accented Latin input
+     */
+    @Benchmark
+    public boolean benchmarkEstNomValideScannerAccented() {
+        return NameScanner.isValidName(accentedName);
+    }
+
+    /**
+     * Benchmark: estNomValide regex path on supplementary-plane letters
+     */
+    @Benchmark
+    public boolean benchmarkEstNomValideRegexSupplementary() {
+        return regexEstNomValide(supplementaryName);
+    }
+
+    /**
+     * Benchmark: estNomValide scanner path on supplementary-plane letters
+     */
+    @Benchmark
+    public boolean benchmarkEstNomValideScannerSupplementary() {
+        return NameScanner.isValidName(supplementaryName);
+    }
+
+    /**
+     * Former regex implementation of StringValidator.estNomValide
+     */
+    private boolean regexEstNomValide(String nom) {
+        if (nom == null || nom.trim().isEmpty()) {
+            return false;
+        }
+        return namePattern.matcher(nom.trim()).matches();
+    }
+
     /**
      * Main method to run benchmarks
      */
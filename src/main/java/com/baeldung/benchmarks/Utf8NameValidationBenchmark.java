@@ -0,0 +1,99 @@
+package com.baeldung.benchmarks;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.baeldung.validation.NameScanner;
+
+/**
+ * JMH Microbenchmarks for name validation on UTF-8 input.
+ * Compares decoding to a String before validating with validating the bytes directly.
+ *
+ * Run with: mvn clean package && java -jar target/benchmarks.jar Utf8NameValidationBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, warmups = 0)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class Utf8NameValidationBenchmark {
+
+    @Param({"  Jean Pierre Dupont  ", "  Hélène Françoise Müller  "})
+    private String name;
+
+    private byte[] utf8;
+    private ByteBuffer heapBuffer;
+    private ByteBuffer directBuffer;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        utf8 = name.getBytes(StandardCharsets.UTF_8);
+        heapBuffer = ByteBuffer.wrap(utf8);
+        directBuffer = ByteBuffer.allocateDirect(utf8.length).put(utf8).flip();
+    }
+
+    /**
+     * Benchmark: decode to String, then validate (current path for byte input)
+     */
+    @Benchmark
+    public boolean benchmarkDecodeThenValidate() {
+        return NameScanner.isValidName(new String(utf8, 0, utf8.length, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Benchmark: validate the byte array directly
+     */
+    @Benchmark
+    public boolean benchmarkValidateByteArray() {
+        return NameScanner.isValidName(utf8, 0, utf8.length);
+    }
+
+    /**
+     * Benchmark: validate a heap ByteBuffer
+     */
+    @Benchmark
+    public boolean benchmarkValidateHeapBuffer() {
+        return NameScanner.isValidName(heapBuffer);
+    }
+
+    /**
+     * Benchmark: validate a direct ByteBuffer
+     */
+    @Benchmark
+    public boolean benchmarkValidateDirectBuffer() {
+        return NameScanner.isValidName(directBuffer);
+    }
+
+    /**
+     * Main method to run benchmarks
+     */
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(Utf8NameValidationBenchmark.class.getSimpleName())
+                .forks(1)
+                .warmupIterations(3)
+                .measurementIterations(5)
+                .build();
+
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,109 @@
+package com.baeldung.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntPredicate;
+import java.util.function.Predicate;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.baeldung.validation.NameScanner;
+import com.baeldung.validation.Validator;
+import com.baeldung.validation.ValidatorBuilder;
+
+/**
+ * JMH Microbenchmarks for composed validation rules.
+ * Compares a compiled single-pass Validator with chaining one pass per rule,
+ * as the number of configured rules grows.
+ *
+ * Run with: mvn clean package && java -jar target/benchmarks.jar ValidatorRuleBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, warmups = 0)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ValidatorRuleBenchmark {
+
+    @Param({"1", "2", "4", "8", "16"})
+    private int ruleCount;
+
+    private String input = "  Jean Pierre Dupont de la Fontaine  ";
+    private Validator fused;
+    private List<Predicate<CharSequence>> chained;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        ValidatorBuilder builder = Validator.builder().nameCharset();
+        chained = new ArrayList<>();
+        chained.add(NameScanner::isValidName);
+        for (int rule = 1; rule < ruleCount; rule++) {
+            if (rule == 1) {
+                builder.maxLength(64);
+                chained.add(s -> s.length() <= 64);
+            } else if (rule % 2 == 0) {
+                int forbidden = '0' + rule;
+                builder.forbidCodePoints(forbidden);
+                chained.add(s -> s.codePoints().noneMatch(cp -> cp == forbidden));
+            } else {
+                int excluded = 0x2000 + rule;
+                IntPredicate predicate = cp -> cp != excluded;
+                builder.codePointRule(predicate);
+                chained.add(s -> s.codePoints().allMatch(predicate));
+            }
+        }
+        fused = builder.build();
+    }
+
+    /**
+     * Benchmark: compiled validator, one scan whatever the number of rules
+     */
+    @Benchmark
+    public boolean benchmarkFusedValidator() {
+        return fused.isValid(input);
+    }
+
+    /**
+     * Benchmark: one pass per rule
+     */
+    @Benchmark
+    public boolean benchmarkChainedRules() {
+        for (Predicate<CharSequence> rule : chained) {
+            if (!rule.test(input)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Main method to run benchmarks
+     */
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(ValidatorRuleBenchmark.class.getSimpleName())
+                .forks(1)
+                .warmupIterations(3)
+                .measurementIterations(5)
+                .build();
+
+        new Runner(opt).run();
+    }
+}
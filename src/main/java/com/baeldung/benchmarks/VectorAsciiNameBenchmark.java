@@ -0,0 +1,97 @@
+package com.baeldung.benchmarks;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.baeldung.validation.NameScanner;
+
+/**
+ * JMH Microbenchmarks for the Vector API ASCII fast path of byte-level name validation.
+ * The fast path is selected when the JVM starts, so each variant runs in its own fork.
+ *
+ * Run with: mvn clean package && java -jar target/benchmarks.jar VectorAsciiNameBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, warmups = 0)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class VectorAsciiNameBenchmark {
+
+    @Param({"8", "64", "4096"})
+    private int length;
+
+    private byte[] name;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        StringBuilder sb = new StringBuilder(length);
+        String words = "Jean Pierre Dupont Marie Claire ";
+        while (sb.length() < length) {
+            sb.append(words);
+        }
+        sb.setLength(length);
+        sb.setCharAt(0, 'J');
+        sb.setCharAt(length - 1, 'z');
+        name = sb.toString().getBytes(StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * Benchmark: scalar byte path (incubator module not enabled)
+     */
+    @Benchmark
+    @Fork(value = 1, warmups = 0)
+    public boolean benchmarkScalar() {
+        return NameScanner.isValidName(name, 0, name.length);
+    }
+
+    /**
+     * Benchmark: scalar byte path with the module enabled but SIMD switched off
+     */
+    @Benchmark
+    @Fork(value = 1, warmups = 0, jvmArgsAppend = {"--add-modules=jdk.incubator.vector",
+        "-Dcom.baeldung.validation.simd=false"})
+    public boolean benchmarkScalarSimdDisabled() {
+        return NameScanner.isValidName(name, 0, name.length);
+    }
+
+    /**
+     * Benchmark: Vector API fast path
+     */
+    @Benchmark
+    @Fork(value = 1, warmups = 0, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+    public boolean benchmarkVector() {
+        return NameScanner.isValidName(name, 0, name.length);
+    }
+
+    /**
+     * Main method to run benchmarks
+     */
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(VectorAsciiNameBenchmark.class.getSimpleName())
+                .warmupIterations(3)
+                .measurementIterations(5)
+                .build();
+
+        new Runner(opt).run();
+    }
+}
@@ -1,14 +1,19 @@
 package com.baeldung.generics;
 
+import java.util.Objects;
+
 /**
  * Abstract base class for animals.
  * Specification:
  * @invariant type != null && name != null
+ * @invariant keyHash() == hash(type, name)
  */
 public abstract class Animal {
 
     protected final String type;
     protected final String name;
+    /** Both fields are final: computed once instead of on every hash operation. */
+    private final int hash;
 
     /**
      * @requires type != null && name != null
@@ -17,6 +22,35 @@ public abstract class Animal {
     protected Animal(String type, String name) {
         this.type = type;
         this.name = name;
+        this.hash = hash(type, name);
+    }
+
+    /**
+     * Same value as {@code Objects.hash(type, name)}, without the varargs array.
+     */
+    static int hash(String type, String name) {
+        return 31 * (31 + Objects.hashCode(type)) + Objects.hashCode(name);
+    }
+
+    /**
+     * Cached {@code hash(type, name)}, whatever {@link #hashCode()} subclasses define; the key hash
+     * of {@link AnimalIndex}.
+     */
+    final int keyHash() {
+        return hash;
+    }
+
+    /**
+     * True if both animals have the same type and name: two reference comparisons when they hold
+     * the canonical strings of the same {@link AnimalSymbols}, string comparisons otherwise.
+     *
+     * @requires other != null
+     */
+    final boolean sameKey(Animal other) {
+        if (type == other.type && name == other.name) {
+            return true;
+        }
+        return hash == other.hash && type.equals(other.type) && name.equals(other.name);
     }
 
     /**
@@ -37,4 +71,18 @@ public abstract class Animal {
     public String getName() {
         return name;
     }
+
+    /**
+     * Id of the type in {@link AnimalSymbols#types()} if this animal was interned, or -1.
+     */
+    public int getTypeId() {
+        return -1;
+    }
+
+    /**
+     * Id of the name in {@link AnimalSymbols#names()} if this animal was interned, or -1.
+     */
+    public int getNameId() {
+        return -1;
+    }
 }
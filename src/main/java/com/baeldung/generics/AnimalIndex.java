@@ -0,0 +1,163 @@
+package com.baeldung.generics;
+
+import java.util.Arrays;
+
+import com.baeldung.util.Hashing;
+
+/**
+ * Set of animals keyed by (type, name), for deduplicating large populations.
+ *
+ * Entries live in two parallel arrays, the cached hash codes and the animals, probed linearly:
+ * no node object per entry, and mismatching slots are rejected on the int hash without touching
+ * the animal. The table doubles when it is half full. Lookups by type and name need no probe
+ * object. Animals, when added or looked up, are matched with {@link Animal#sameKey(Animal)}, on
+ * string references when they were interned through the same {@link AnimalSymbols}.
+ *
+ * Not thread-safe; there is no removal.
+ * @invariant size <= animals.length / 2 && animals.length is a power of two
+ */
+public final class AnimalIndex<A extends Animal> {
+
+    private static final int MIN_CAPACITY = 16;
+
+    private int[] hashes;
+    private Object[] animals;
+    private int size;
+
+    public AnimalIndex() {
+        this(0);
+    }
+
+    /**
+     * Sized so that {@code expectedSize} animals fit without resizing.
+     *
+     * @requires 0 <= expectedSize <= 1 << 29
+     */
+    public AnimalIndex(int expectedSize) {
+        if (expectedSize < 0 || expectedSize > 1 << 29) {
+            throw new IllegalArgumentException("expectedSize out of range: " + expectedSize);
+        }
+        int capacity = Math.max(MIN_CAPACITY, Integer.highestOneBit(Math.max(1, 2 * expectedSize - 1)) << 1);
+        this.hashes = new int[capacity];
+        this.animals = new Object[capacity];
+    }
+
+    /**
+     * Adds the animal unless one with the same type and name is already present.
+     *
+     * @requires animal != null
+     * @ensures \result == !\old(contains(animal.getType(), animal.getName()))
+     */
+    public boolean add(A animal) {
+        int hash = animal.keyHash();
+        int mask = animals.length - 1;
+        for (int slot = Hashing.spread(hash) & mask; ; slot = (slot + 1) & mask) {
+            Object current = animals[slot];
+            if (current == null) {
+                hashes[slot] = hash;
+                animals[slot] = animal;
+                if (++size > animals.length >>> 1) {
+                    resize();
+                }
+                return true;
+            }
+            if (hashes[slot] == hash && ((Animal) current).sameKey(animal)) {
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Returns the indexed animal with this type and name, or {@code null}.
+     */
+    public A get(String type, String name) {
+        return find(Animal.hash(type, name), type, name);
+    }
+
+    public boolean contains(String type, String name) {
+        return get(type, name) != null;
+    }
+
+    /**
+     * Looks up the type and name of {@code animal}, reusing its cached hash.
+     *
+     * @requires animal != null
+     */
+    public boolean contains(Animal animal) {
+        int hash = animal.keyHash();
+        int mask = animals.length - 1;
+        for (int slot = Hashing.spread(hash) & mask; ; slot = (slot + 1) & mask) {
+            Object current = animals[slot];
+            if (current == null) {
+                return false;
+            }
+            if (hashes[slot] == hash && ((Animal) current).sameKey(animal)) {
+                return true;
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private A find(int hash, String type, String name) {
+        int mask = animals.length - 1;
+        for (int slot = Hashing.spread(hash) & mask; ; slot = (slot + 1) & mask) {
+            Object current = animals[slot];
+            if (current == null) {
+                return null;
+            }
+            if (hashes[slot] == hash && matches((Animal) current, type, name)) {
+                return (A) current;
+            }
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Indexed animals, in table order.
+     */
+    @SuppressWarnings("unchecked")
+    public A[] toArray(A[] template) {
+        A[] result = Arrays.copyOf(template, size);
+        int i = 0;
+        for (Object animal : animals) {
+            if (animal != null) {
+                result[i++] = (A) animal;
+            }
+        }
+        return result;
+    }
+
+    private static boolean matches(Animal animal, String type, String name) {
+        return animal.name.equals(name) && animal.type.equals(type);
+    }
+
+    private void resize() {
+        int[] oldHashes = hashes;
+        Object[] oldAnimals = animals;
+        if (oldAnimals.length == 1 << 30) {
+            throw new IllegalStateException("AnimalIndex cannot hold more than " + (1 << 29) + " animals");
+        }
+        int capacity = oldAnimals.length << 1;
+        int mask = capacity - 1;
+        hashes = new int[capacity];
+        animals = new Object[capacity];
+        for (int i = 0; i < oldAnimals.length; i++) {
+            if (oldAnimals[i] != null) {
+                int slot = Hashing.spread(oldHashes[i]) & mask;
+                while (animals[slot] != null) {
+                    slot = (slot + 1) & mask;
+                }
+                hashes[slot] = oldHashes[i];
+                animals[slot] = oldAnimals[i];
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "AnimalIndex{size=" + size + ", capacity=" + animals.length + '}';
+    }
+}
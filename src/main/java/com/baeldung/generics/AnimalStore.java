@@ -0,0 +1,335 @@
+package com.baeldung.generics;
+
+import java.util.Arrays;
+import java.util.function.Predicate;
+
+/**
+ * Columnar store of animals for bulk scans.
+ *
+ * Instead of one object per animal, with two more per string, the store keeps parallel primitive
+ * columns: the kind, the type id in a {@link SymbolTable} owned by the store, and the offset of the
+ * name in a shared character arena (names are stored back to back, each ending where the next one
+ * starts). Only types enter the table, so their ids stay dense and index per-type counts. A scan
+ * reads the columns it needs sequentially, which the hardware prefetches, instead of following
+ * a pointer per animal.
+ *
+ * Animals are read through a {@link Cursor}, one reusable view moved from row to row, or
+ * materialized back with {@link #get(int)}. Not thread-safe; there is no removal.
+ * @invariant nameOffsets[0] == 0 && nameOffsets[i] <= nameOffsets[i + 1] for 0 <= i < size
+ */
+public final class AnimalStore {
+
+    /**
+     * Concrete animal classes the store can hold.
+     */
+    public enum Kind {
+        CAT("Meow"),
+        DOG("Wuf");
+
+        private final String sound;
+
+        Kind(String sound) {
+            this.sound = sound;
+        }
+
+        /**
+         * @ensures \result.equals(create(type, name).makeSound())
+         */
+        public String sound() {
+            return sound;
+        }
+
+        Animal create(String type, String name) {
+            return this == CAT ? new Cat(type, name) : new Dog(type, name);
+        }
+
+        static Kind of(Animal animal) {
+            if (animal instanceof Cat) {
+                return CAT;
+            }
+            if (animal instanceof Dog) {
+                return DOG;
+            }
+            throw new IllegalArgumentException("Unsupported animal: " + animal.getClass().getName());
+        }
+    }
+
+    private static final Kind[] KINDS = Kind.values();
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private final SymbolTable types;
+    private byte[] kinds;
+    private int[] typeIds;
+    /** nameOffsets[i] to nameOffsets[i + 1]: the name of row i in names. */
+    private int[] nameOffsets;
+    private char[] names;
+    private int size;
+
+    public AnimalStore() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Sized for {@code expectedSize} animals.
+     *
+     * @requires expectedSize >= 0
+     * @signals (IllegalArgumentException) expectedSize < 0
+     */
+    public AnimalStore(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("expectedSize must not be negative: " + expectedSize);
+        }
+        this.types = new SymbolTable(1);
+        this.kinds = new byte[expectedSize];
+        this.typeIds = new int[expectedSize];
+        this.nameOffsets = new int[expectedSize + 1];
+        this.names = new char[(int) Math.min(Integer.MAX_VALUE - 8, 8L * expectedSize)];
+    }
+
+    /**
+     * Appends a row with the kind, type and name of {@code animal}.
+     *
+     * @requires animal is a Cat or a Dog
+     * @ensures size() == \old(size()) + 1
+     * @signals (IllegalArgumentException) animal is neither a Cat nor a Dog
+     */
+    public int add(Animal animal) {
+        Kind kind = Kind.of(animal);
+        return add(kind, types.intern(animal.getType()), animal.getName());
+    }
+
+    /**
+     * Appends a row without creating the animal.
+     *
+     * @requires kind != null && type != null && name != null
+     * @ensures \result == \old(size())
+     */
+    public int add(Kind kind, String type, String name) {
+        if (kind == null) {
+            throw new IllegalArgumentException("kind must not be null");
+        }
+        return add(kind, types.intern(type), name);
+    }
+
+    private int add(Kind kind, int typeId, String name) {
+        if (size == kinds.length) {
+            int capacity = Math.max(DEFAULT_CAPACITY, size + (size >> 1));
+            kinds = Arrays.copyOf(kinds, capacity);
+            typeIds = Arrays.copyOf(typeIds, capacity);
+            nameOffsets = Arrays.copyOf(nameOffsets, capacity + 1);
+        }
+        int start = nameOffsets[size];
+        int end = start + name.length();
+        if (end < 0) {
+            throw new IllegalStateException("AnimalStore names exceed " + Integer.MAX_VALUE + " characters");
+        }
+        if (end > names.length) {
+            names = Arrays.copyOf(names, (int) Math.min(Integer.MAX_VALUE - 8, Math.max(end, names.length + (long) (names.length >> 1))));
+        }
+        name.getChars(0, name.length(), names, start);
+        kinds[size] = (byte) kind.ordinal();
+        typeIds[size] = typeId;
+        nameOffsets[size + 1] = end;
+        return size++;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Table of the type ids, so that {@code types().symbol(id)} names the type of
+     * {@link #countByType()} slot {@code id}.
+     */
+    public SymbolTable types() {
+        return types;
+    }
+
+    /**
+     * Creates the animal of row {@code index}.
+     *
+     * @signals (IndexOutOfBoundsException) index < 0 || index >= size()
+     */
+    public Animal get(int index) {
+        checkIndex(index);
+        return KINDS[kinds[index]].create(types.symbol(typeIds[index]),
+            new String(names, nameOffsets[index], nameOffsets[index + 1] - nameOffsets[index]));
+    }
+
+    /**
+     * Returns a cursor before the first row.
+     */
+    public Cursor cursor() {
+        return new Cursor();
+    }
+
+    /**
+     * Number of rows of this kind; reads the kind column only.
+     */
+    public int count(Kind kind) {
+        byte wanted = (byte) kind.ordinal();
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            if (kinds[i] == wanted) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Number of rows per type id, indexed by id; reads the type column only.
+     *
+     * @ensures \result.length == types().size() && sum(\result) == size()
+     */
+    public int[] countByType() {
+        int[] counts = new int[types.size()];
+        for (int i = 0; i < size; i++) {
+            counts[typeIds[i]]++;
+        }
+        return counts;
+    }
+
+    /**
+     * Number of rows whose name has at least {@code length} characters; reads the offsets only.
+     */
+    public int countNameLengthAtLeast(int length) {
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            if (nameOffsets[i + 1] - nameOffsets[i] >= length) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Number of rows matching {@code filter}, tested through a single cursor.
+     */
+    public int count(Predicate<? super Cursor> filter) {
+        Cursor cursor = new Cursor();
+        int count = 0;
+        while (cursor.next()) {
+            if (filter.test(cursor)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "AnimalStore{size=" + size + ", types=" + types.size() + ", nameChars=" + nameOffsets[size] + '}';
+    }
+
+    /**
+     * Flyweight view of one row, with the accessors of {@link Animal}. Moving it does not
+     * allocate; only {@link #getName()} builds a string, the other name accessors read the arena.
+     * {@link Animal} is a class with final fields, so the view cannot be one: use
+     * {@link #toAnimal()} where an instance is required.
+     */
+    public final class Cursor {
+
+        private int row = -1;
+
+        private Cursor() {
+        }
+
+        /**
+         * Moves to the next row.
+         *
+         * @ensures \result == (position() < size())
+         */
+        public boolean next() {
+            if (row < size) {
+                row++;
+            }
+            return row < size;
+        }
+
+        /**
+         * @signals (IndexOutOfBoundsException) index < 0 || index >= size()
+         */
+        public Cursor moveTo(int index) {
+            checkIndex(index);
+            row = index;
+            return this;
+        }
+
+        public int position() {
+            return row;
+        }
+
+        public Kind getKind() {
+            return KINDS[kinds[row]];
+        }
+
+        public int getTypeId() {
+            return typeIds[row];
+        }
+
+        /**
+         * Canonical instance from {@link AnimalStore#types()}; no allocation.
+         */
+        public String getType() {
+            return types.symbol(typeIds[row]);
+        }
+
+        /**
+         * @ensures \result is a new string
+         */
+        public String getName() {
+            return new String(names, nameOffsets[row], nameLength());
+        }
+
+        public int nameLength() {
+            return nameOffsets[row + 1] - nameOffsets[row];
+        }
+
+        public char nameCharAt(int index) {
+            if (index < 0 || index >= nameLength()) {
+                throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + nameLength());
+            }
+            return names[nameOffsets[row] + index];
+        }
+
+        /**
+         * Compares the name in place, without building it.
+         */
+        public boolean nameEquals(CharSequence name) {
+            int start = nameOffsets[row];
+            int length = nameOffsets[row + 1] - start;
+            if (name.length() != length) {
+                return false;
+            }
+            for (int i = 0; i < length; i++) {
+                if (names[start + i] != name.charAt(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        public String makeSound() {
+            return getKind().sound();
+        }
+
+        /**
+         * @ensures \result has the kind, type and name of AnimalStore.this.get(position())
+         */
+        public Animal toAnimal() {
+            return get(row);
+        }
+
+        @Override
+        public String toString() {
+            return row < 0 || row >= size ? "Cursor{row=" + row + '}' : toAnimal().toString();
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.baeldung.generics;
+
+/**
+ * The two intern pools of a population of interned animals: one for types, one for names.
+ *
+ * Keeping types apart keeps their ids dense, {@code 0..types().size() - 1} whatever the number
+ * of names, so that they can index per-type arrays. Interned dogs only hold the ids and the
+ * canonical strings; interned cats also keep a reference to their symbols, so that two cats of
+ * the same symbols compare their ids in {@code equals}.
+ *
+ * Thread-safe, like {@link SymbolTable}.
+ */
+public final class AnimalSymbols {
+
+    private final SymbolTable types;
+    private final SymbolTable names;
+
+    /**
+     * A single segment for the few types, the default concurrency level for the names.
+     */
+    public AnimalSymbols() {
+        this(new SymbolTable(1), new SymbolTable());
+    }
+
+    /**
+     * @requires types != null && names != null && types != names
+     * @signals (IllegalArgumentException) types == null || names == null || types == names
+     */
+    public AnimalSymbols(SymbolTable types, SymbolTable names) {
+        if (types == null || names == null) {
+            throw new IllegalArgumentException("types and names must not be null");
+        }
+        if (types == names) {
+            throw new IllegalArgumentException("types and names must be distinct tables");
+        }
+        this.types = types;
+        this.names = names;
+    }
+
+    public SymbolTable types() {
+        return types;
+    }
+
+    public SymbolTable names() {
+        return names;
+    }
+
+    @Override
+    public String toString() {
+        return "AnimalSymbols{types=" + types.size() + ", names=" + names.size() + '}';
+    }
+}
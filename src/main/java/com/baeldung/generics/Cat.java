@@ -1,13 +1,11 @@
 package com.baeldung.generics;
 
-import java.util.Objects;
-
 /**
  * Cat class extending Animal and implementing Comparable.
  * 
  * @invariant name.length() >= 0
  */
-class Cat extends Animal implements Comparable<Cat> {
+public class Cat extends Animal implements Comparable<Cat> {
     
     /**
      * @requires type != null && name != null
@@ -17,6 +15,21 @@ class Cat extends Animal implements Comparable<Cat> {
         super(type, name);
     }
 
+    /**
+     * Creates a cat holding the canonical type and name of {@code symbols}, and their ids, so
+     * that a population interned through the same symbols stores each distinct string once.
+     * Two such cats compare their ids in {@link #equals(Object)}.
+     *
+     * @requires type != null && name != null && symbols != null
+     * @ensures \result.getType() == symbols.types().symbol(\result.getTypeId())
+     *          && \result.getName() == symbols.names().symbol(\result.getNameId())
+     */
+    public static Cat interned(String type, String name, AnimalSymbols symbols) {
+        int typeId = symbols.types().intern(type);
+        int nameId = symbols.names().intern(name);
+        return new Interned(symbols, symbols.types().symbol(typeId), typeId, symbols.names().symbol(nameId), nameId);
+    }
+
     /**
      * @ensures \result.equals("Meow")
      */
@@ -41,9 +54,12 @@ class Cat extends Animal implements Comparable<Cat> {
         return "Cat{" + "type='" + type + '\'' + ", name='" + name + '\'' + '}';
     }
 
+    /**
+     * @ensures \result == Objects.hash(type, name)
+     */
     @Override
     public int hashCode() {
-        return Objects.hash(type, name);
+        return keyHash();
     }
 
     /**
@@ -56,6 +72,47 @@ class Cat extends Animal implements Comparable<Cat> {
         if(o == this) return true;
         if(!(o instanceof Cat)) return false;
         Cat cat = (Cat) o;
-        return type.equals(cat.type) && name.equals(cat.name);
+        return sameKey(cat);
+    }
+
+    /**
+     * Ids of an interned cat, and the symbols they come from: ids are only comparable within
+     * the same symbols.
+     */
+    private static final class Interned extends Cat {
+
+        private final AnimalSymbols symbols;
+        private final int typeId;
+        private final int nameId;
+
+        Interned(AnimalSymbols symbols, String type, int typeId, String name, int nameId) {
+            super(type, name);
+            this.symbols = symbols;
+            this.typeId = typeId;
+            this.nameId = nameId;
+        }
+
+        @Override
+        public int getTypeId() {
+            return typeId;
+        }
+
+        @Override
+        public int getNameId() {
+            return nameId;
+        }
+
+        /**
+         * Two int comparisons against a cat interned through the same symbols; the string
+         * comparison of {@link Cat#equals(Object)} otherwise.
+         */
+        @Override
+        public boolean equals(Object o) {
+            if (o instanceof Interned && ((Interned) o).symbols == symbols) {
+                Interned cat = (Interned) o;
+                return typeId == cat.typeId && nameId == cat.nameId;
+            }
+            return super.equals(o);
+        }
     }
 }
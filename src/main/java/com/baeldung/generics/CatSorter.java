@@ -0,0 +1,220 @@
+package com.baeldung.generics;
+
+import java.util.List;
+import java.util.ListIterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+
+/**
+ * Stable sorts of cats by name length: the order of {@link Cat#compareTo(Cat)}, which
+ * {@code Collections.sort} would give, without any comparison.
+ *
+ * The name lengths are read once into an {@code int[]}, then cats and keys are distributed by
+ * counting: one pass over buckets {@code 0..max} when the longest name is shorter than 2^16
+ * characters, as it practically always is, otherwise two radix passes on 16-bit digits. Each pass
+ * is stable, so cats with names of the same length keep their relative order. The sorted cats
+ * are written back into the list in a single traversal.
+ *
+ * The parallel variant counts and distributes chunks of the list in a {@link ForkJoinPool}; only
+ * the prefix sums over the buckets are sequential.
+ */
+public final class CatSorter {
+
+    /**
+     * Default number of cats below which the parallel sort works sequentially, and minimum
+     * size of a chunk.
+     */
+    public static final int DEFAULT_SPLIT_THRESHOLD = 1 << 16;
+
+    private static final int DIGIT_BITS = 16;
+    private static final int DIGIT_MASK = (1 << DIGIT_BITS) - 1;
+
+    private CatSorter() {
+    }
+
+    /**
+     * @requires cats != null && no element is null && cats supports set
+     * @ensures cats is sorted by name length, cats of equal name length in their original order
+     */
+    public static void sortByNameLength(List<Cat> cats) {
+        Cat[] elements = cats.toArray(new Cat[0]);
+        int[] keys = nameLengths(elements);
+        Sorter sorter = new Sorter(elements, keys, null, 1);
+        writeBack(cats, sorter.sort());
+    }
+
+    /**
+     * Same result as {@link #sortByNameLength(List)}, counting and distributing chunks of at
+     * least {@code threshold} cats in {@code pool}.
+     *
+     * @requires pool != null && threshold > 0
+     * @signals (IllegalArgumentException) pool == null || threshold <= 0
+     */
+    public static void parallelSortByNameLength(List<Cat> cats, ForkJoinPool pool, int threshold) {
+        if (pool == null) {
+            throw new IllegalArgumentException("pool must not be null");
+        }
+        if (threshold <= 0) {
+            throw new IllegalArgumentException("threshold must be positive: " + threshold);
+        }
+        Cat[] elements = cats.toArray(new Cat[0]);
+        int chunks = Math.min(elements.length / threshold, 4 * pool.getParallelism());
+        if (chunks <= 1) {
+            writeBack(cats, new Sorter(elements, nameLengths(elements), null, 1).sort());
+            return;
+        }
+        int[] keys = new int[elements.length];
+        Sorter sorter = new Sorter(elements, keys, pool, chunks);
+        sorter.forEachChunk(chunk -> {
+            for (int i = sorter.chunkStart(chunk), end = sorter.chunkStart(chunk + 1); i < end; i++) {
+                keys[i] = elements[i].getName().length();
+            }
+        });
+        writeBack(cats, sorter.sort());
+    }
+
+    /**
+     * {@link #parallelSortByNameLength(List, ForkJoinPool, int)} in the common pool.
+     */
+    public static void parallelSortByNameLength(List<Cat> cats) {
+        parallelSortByNameLength(cats, ForkJoinPool.commonPool(), DEFAULT_SPLIT_THRESHOLD);
+    }
+
+    private static int[] nameLengths(Cat[] cats) {
+        int[] keys = new int[cats.length];
+        for (int i = 0; i < cats.length; i++) {
+            keys[i] = cats[i].getName().length();
+        }
+        return keys;
+    }
+
+    private static void writeBack(List<Cat> cats, Cat[] sorted) {
+        ListIterator<Cat> iterator = cats.listIterator();
+        for (Cat cat : sorted) {
+            iterator.next();
+            iterator.set(cat);
+        }
+    }
+
+    /**
+     * Counting passes over parallel arrays of cats and keys, swapped with scratch arrays after
+     * each pass. With a pool, every chunk counts its own histogram, and its cats go to
+     * the offsets that follow the same bucket of the previous chunks, which keeps the pass stable.
+     */
+    private static final class Sorter {
+
+        private final ForkJoinPool pool;
+        private final int chunks;
+        private Cat[] cats;
+        private int[] keys;
+        private Cat[] scratchCats;
+        private int[] scratchKeys;
+
+        Sorter(Cat[] cats, int[] keys, ForkJoinPool pool, int chunks) {
+            this.cats = cats;
+            this.keys = keys;
+            this.pool = pool;
+            this.chunks = chunks;
+        }
+
+        Cat[] sort() {
+            int max = 0;
+            for (int key : keys) {
+                max = Math.max(max, key);
+            }
+            if (cats.length < 2 || max == 0) {
+                return cats;
+            }
+            scratchCats = new Cat[cats.length];
+            if (max <= DIGIT_MASK) {
+                pass(0, max + 1, false);
+            } else {
+                scratchKeys = new int[cats.length];
+                pass(0, 1 << DIGIT_BITS, true);
+                pass(DIGIT_BITS, (max >>> DIGIT_BITS) + 1, false);
+            }
+            return cats;
+        }
+
+        /**
+         * Distributes by the digit {@code (key >>> shift) & DIGIT_MASK}, which is below {@code buckets};
+         * the keys only move along when another pass follows.
+         */
+        private void pass(int shift, int buckets, boolean moveKeys) {
+            int[][] offsets = new int[chunks][buckets];
+            forEachChunk(chunk -> {
+                int[] counts = offsets[chunk];
+                for (int i = chunkStart(chunk), end = chunkStart(chunk + 1); i < end; i++) {
+                    counts[(keys[i] >>> shift) & DIGIT_MASK]++;
+                }
+            });
+            int next = 0;
+            for (int bucket = 0; bucket < buckets; bucket++) {
+                for (int chunk = 0; chunk < chunks; chunk++) {
+                    int count = offsets[chunk][bucket];
+                    offsets[chunk][bucket] = next;
+                    next += count;
+                }
+            }
+            forEachChunk(chunk -> {
+                int[] positions = offsets[chunk];
+                for (int i = chunkStart(chunk), end = chunkStart(chunk + 1); i < end; i++) {
+                    int position = positions[(keys[i] >>> shift) & DIGIT_MASK]++;
+                    scratchCats[position] = cats[i];
+                    if (moveKeys) {
+                        scratchKeys[position] = keys[i];
+                    }
+                }
+            });
+            Cat[] sortedCats = scratchCats;
+            scratchCats = cats;
+            cats = sortedCats;
+            if (moveKeys) {
+                int[] sortedKeys = scratchKeys;
+                scratchKeys = keys;
+                keys = sortedKeys;
+            }
+        }
+
+        int chunkStart(int chunk) {
+            return (int) ((long) cats.length * chunk / chunks);
+        }
+
+        void forEachChunk(IntConsumer action) {
+            if (pool == null) {
+                for (int chunk = 0; chunk < chunks; chunk++) {
+                    action.accept(chunk);
+                }
+            } else {
+                pool.invoke(new ChunkTask(action, 0, chunks));
+            }
+        }
+    }
+
+    private static final class ChunkTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        @SuppressWarnings("serial")
+        private final IntConsumer action;
+        private final int from;
+        private final int to;
+
+        ChunkTask(IntConsumer action, int from, int to) {
+            this.action = action;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from == 1) {
+                action.accept(from);
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new ChunkTask(action, from, middle), new ChunkTask(action, middle, to));
+        }
+    }
+}
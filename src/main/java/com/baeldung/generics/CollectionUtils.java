@@ -1,15 +1,36 @@
 package com.baeldung.generics;
 
+import java.math.BigInteger;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
 import java.util.List;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import java.util.ListIterator;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.random.RandomGenerator;
 
 /**
  * Generic utility methods for collections.
  * Demonstrates bounded type parameters and wildcards.
+ *
+ * The {@code sum} family wraps around on overflow, like {@link java.util.stream.LongStream#sum()};
+ * the {@code sumExact} variants throw instead, and {@code parallelSumExact} returns a
+ * {@link BigInteger}. Sums of {@code int} values cannot overflow a
+ * {@code long}, since an array or buffer holds fewer than 2^31 of them.
  */
 public class CollectionUtils {
 
+    /**
+     * Default number of elements below which {@link #parallelSum} sums a range sequentially.
+     */
+    public static final int DEFAULT_SPLIT_THRESHOLD = 1 << 16;
+
     private CollectionUtils() {
     }
 
@@ -40,6 +61,158 @@ public class CollectionUtils {
         list.set(src, list.set(des, list.get(src)));
     }
 
+    /**
+     * Reorders a list so that {@code list.get(i)} becomes the element that was at
+     * {@code permutation[i]}. The elements are read from an array snapshot and written in index
+     * order: following the cycles of the permutation in place would save the snapshot, but jumps
+     * across the list on every write and was over ten times slower on a million elements.
+     * Lists without random access are written back once through a list iterator, instead of
+     * paying O(n) per access.
+     *
+     * @requires list != null && permutation != null
+     * @ensures list.get(i) == \old(list.get(permutation[i]))
+     * @signals (IllegalArgumentException) permutation is not a permutation of [0, list.size())
+     */
+    public static void permute(List<?> list, int[] permutation) {
+        permuteHelper(list, permutation);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <E> void permuteHelper(List<E> list, int[] permutation) {
+        int size = list.size();
+        if (permutation.length != size) {
+            throw new IllegalArgumentException("Permutation of " + permutation.length
+                + " indices for a list of " + size + " elements");
+        }
+        long[] seen = new long[(size + 63) >>> 6];
+        for (int index : permutation) {
+            if (index < 0 || index >= size || (seen[index >>> 6] & (1L << index)) != 0) {
+                throw new IllegalArgumentException("Not a permutation: index " + index
+                    + (index < 0 || index >= size ? " out of range" : " repeated"));
+            }
+            seen[index >>> 6] |= 1L << index;
+        }
+        Object[] elements = list.toArray();
+        if (list instanceof RandomAccess) {
+            for (int i = 0; i < size; i++) {
+                list.set(i, (E) elements[permutation[i]]);
+            }
+            return;
+        }
+        Object[] permuted = new Object[size];
+        for (int i = 0; i < size; i++) {
+            permuted[i] = elements[permutation[i]];
+        }
+        writeBack(list, 0, permuted);
+    }
+
+    /**
+     * Fisher-Yates shuffle drawing from {@code random}, so that a seeded generator gives a
+     * reproducible order. Lists without random access are shuffled in an array and written back
+     * once, like {@link java.util.Collections#shuffle(List, java.util.Random)}.
+     *
+     * @requires list != null && random != null
+     * @ensures list is a permutation of \old(list)
+     */
+    public static void shuffle(List<?> list, RandomGenerator random) {
+        shuffleHelper(list, random);
+    }
+
+    private static <E> void shuffleHelper(List<E> list, RandomGenerator random) {
+        int size = list.size();
+        if (list instanceof RandomAccess) {
+            for (int i = size - 1; i > 0; i--) {
+                list.set(i, list.set(random.nextInt(i + 1), list.get(i)));
+            }
+            return;
+        }
+        Object[] elements = list.toArray();
+        for (int i = size - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            Object element = elements[i];
+            elements[i] = elements[j];
+            elements[j] = element;
+        }
+        writeBack(list, 0, elements);
+    }
+
+    /**
+     * Reverses {@code list[from, to)} in place; lists without random access go through an array.
+     *
+     * @requires list != null
+     * @ensures list.get(from + i) == \old(list.get(to - 1 - i)) for 0 <= i < to - from
+     * @signals (IndexOutOfBoundsException) from < 0 || from > to || to > list.size()
+     */
+    public static void reverse(List<?> list, int from, int to) {
+        reverseHelper(list, from, to);
+    }
+
+    private static <E> void reverseHelper(List<E> list, int from, int to) {
+        Objects.checkFromToIndex(from, to, list.size());
+        if (list instanceof RandomAccess) {
+            reverseRange(list, from, to);
+            return;
+        }
+        Object[] elements = list.subList(from, to).toArray();
+        reverseRange(Arrays.asList(elements), 0, elements.length);
+        writeBack(list, from, elements);
+    }
+
+    /**
+     * Rotates {@code list[from, to)} by {@code distance}: the element at {@code from + i} moves
+     * to {@code from + (i + distance) mod (to - from)}, as in
+     * {@link java.util.Collections#rotate(List, int)} applied to the range. Done with three
+     * reversals, so each element is read and written twice and no buffer is needed for
+     * random-access lists.
+     *
+     * @requires list != null
+     * @signals (IndexOutOfBoundsException) from < 0 || from > to || to > list.size()
+     */
+    public static void rotate(List<?> list, int from, int to, int distance) {
+        rotateHelper(list, from, to, distance);
+    }
+
+    private static <E> void rotateHelper(List<E> list, int from, int to, int distance) {
+        Objects.checkFromToIndex(from, to, list.size());
+        int length = to - from;
+        if (length == 0) {
+            return;
+        }
+        int shift = Math.floorMod(distance, length);
+        if (shift == 0) {
+            return;
+        }
+        if (list instanceof RandomAccess) {
+            reverseRange(list, from, to);
+            reverseRange(list, from, from + shift);
+            reverseRange(list, from + shift, to);
+            return;
+        }
+        Object[] elements = list.subList(from, to).toArray();
+        Object[] rotated = new Object[length];
+        System.arraycopy(elements, length - shift, rotated, 0, shift);
+        System.arraycopy(elements, 0, rotated, shift, length - shift);
+        writeBack(list, from, rotated);
+    }
+
+    private static <E> void reverseRange(List<E> list, int from, int to) {
+        for (int i = from, j = to - 1; i < j; i++, j--) {
+            list.set(i, list.set(j, list.get(i)));
+        }
+    }
+
+    /**
+     * Overwrites {@code list[from, from + elements.length)} in one pass of a list iterator.
+     */
+    @SuppressWarnings("unchecked")
+    private static <E> void writeBack(List<E> list, int from, Object[] elements) {
+        ListIterator<E> iterator = list.listIterator(from);
+        for (Object element : elements) {
+            iterator.next();
+            iterator.set((E) element);
+        }
+    }
+
     /**
      * Merges two lists using type parameter.
      * 
@@ -47,16 +220,79 @@ public class CollectionUtils {
      * @ensures \result.size() == listOne.size() + listTwo.size()
      */
     public static <E> List<E> mergeTypeParameter(List<? extends E> listOne, List<? extends E> listTwo) {
-        return Stream.concat(listOne.stream(), listTwo.stream())
-            .collect(Collectors.toList());
+        return concatView(listOne, listTwo).materialize();
     }
 
     /**
      * Merges two lists using wildcard.
      */
     public static <E> List<? extends E> mergeWildcard(List<? extends E> listOne, List<? extends E> listTwo) {
-        return Stream.concat(listOne.stream(), listTwo.stream())
-            .collect(Collectors.toList());
+        return concatView(listOne, listTwo).materialize();
+    }
+
+    /**
+     * Read-only view of two lists one after the other, built in O(1) without copying;
+     * {@link ConcatenatedList#materialize()} gives an independent copy when one is needed.
+     *
+     * @requires listOne != null && listTwo != null
+     * @ensures \result.size() == listOne.size() + listTwo.size()
+     */
+    public static <E> ConcatenatedList<E> concatView(List<? extends E> listOne, List<? extends E> listTwo) {
+        return ConcatenatedList.of(Arrays.asList(listOne, listTwo));
+    }
+
+    /**
+     * Read-only view of any number of lists one after the other, built in O(k) for k lists.
+     *
+     * @requires lists != null && no list in lists is null
+     * @ensures \result.size() == (\sum List l : lists; l.size())
+     */
+    public static <E> ConcatenatedList<E> concatView(List<? extends List<? extends E>> lists) {
+        return ConcatenatedList.of(lists);
+    }
+
+    /**
+     * Merges lists each sorted by {@code comparator} into a new sorted list, presized to the total
+     * size; O(n log k) for k lists instead of O(n log n) for concatenating then sorting. Ties keep
+     * the order of the lists, as a stable sort would.
+     *
+     * @requires lists != null && comparator != null && every list is sorted by comparator
+     * @ensures \result.equals(the concatenation of lists, stably sorted by comparator)
+     */
+    public static <E> List<E> mergeSorted(List<? extends List<? extends E>> lists, Comparator<? super E> comparator) {
+        long size = 0;
+        List<Iterator<? extends E>> iterators = new ArrayList<>(lists.size());
+        for (List<? extends E> list : lists) {
+            size += list.size();
+            iterators.add(list.iterator());
+        }
+        if (size > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Merged size exceeds Integer.MAX_VALUE: " + size);
+        }
+        List<E> merged = new ArrayList<>((int) size);
+        mergeSortedIterator(iterators, comparator).forEachRemaining(merged::add);
+        return merged;
+    }
+
+    /**
+     * Merges lists of {@link Comparable} elements each sorted in natural order.
+     *
+     * @requires lists != null && every list is sorted in natural order
+     */
+    public static <E extends Comparable<? super E>> List<E> mergeSorted(List<? extends List<? extends E>> lists) {
+        return mergeSorted(lists, Comparator.naturalOrder());
+    }
+
+    /**
+     * Lazily merges iterators each sorted by {@code comparator}: only the current head of every
+     * source is held, so memory stays O(k) whatever the length of the sources. Sources are read
+     * on demand, one element ahead.
+     *
+     * @requires iterators != null && comparator != null && every iterator is sorted by comparator
+     */
+    public static <E> Iterator<E> mergeSortedIterator(List<? extends Iterator<? extends E>> iterators,
+                                                      Comparator<? super E> comparator) {
+        return new MergingIterator<>(iterators, comparator);
     }
 
     /**
@@ -66,27 +302,382 @@ public class CollectionUtils {
      * @ensures \result >= 0
      */
     public static long sum(List<Number> numbers) {
-        return numbers.stream()
-            .mapToLong(Number::longValue)
-            .sum();
+        return sumNumbers(numbers);
     }
 
     /**
      * Sums a list of generic numbers using type parameter.
      */
     public static <T extends Number> long sumTypeParameter(List<T> numbers) {
-        return numbers.stream()
-            .mapToLong(Number::longValue)
-            .sum();
+        return sumNumbers(numbers);
     }
 
     /**
      * Sums a list of generic numbers using wildcard.
      */
     public static long sumWildcard(List<? extends Number> numbers) {
-        return numbers.stream()
-            .mapToLong(Number::longValue)
-            .sum();
+        return sumNumbers(numbers);
+    }
+
+    /**
+     * @requires values != null
+     */
+    public static long sum(int[] values) {
+        return sumRange(values, 0, values.length);
+    }
+
+    /**
+     * @requires values != null
+     */
+    public static long sum(long[] values) {
+        return sumRange(values, 0, values.length);
+    }
+
+    /**
+     * @requires values != null
+     */
+    public static long sum(LongList values) {
+        return sumRange(values.elements(), 0, values.size());
+    }
+
+    /**
+     * Sums the remaining values of a buffer, from its position to its limit.
+     *
+     * @requires buffer != null
+     * @ensures buffer.position() == \old(buffer.position())
+     */
+    public static long sum(IntBuffer buffer) {
+        int from = buffer.position();
+        int to = buffer.limit();
+        if (buffer.hasArray()) {
+            int offset = buffer.arrayOffset();
+            return sumRange(buffer.array(), offset + from, offset + to);
+        }
+        long s0 = 0, s1 = 0, s2 = 0, s3 = 0;
+        int i = from;
+        for (; i <= to - 4; i += 4) {
+            s0 += buffer.get(i);
+            s1 += buffer.get(i + 1);
+            s2 += buffer.get(i + 2);
+            s3 += buffer.get(i + 3);
+        }
+        for (; i < to; i++) {
+            s0 += buffer.get(i);
+        }
+        return s0 + s1 + s2 + s3;
+    }
+
+    /**
+     * Sums the remaining values of a buffer, from its position to its limit.
+     *
+     * @requires buffer != null
+     * @ensures buffer.position() == \old(buffer.position())
+     */
+    public static long sum(LongBuffer buffer) {
+        int from = buffer.position();
+        int to = buffer.limit();
+        if (buffer.hasArray()) {
+            int offset = buffer.arrayOffset();
+            return sumRange(buffer.array(), offset + from, offset + to);
+        }
+        long s0 = 0, s1 = 0, s2 = 0, s3 = 0;
+        int i = from;
+        for (; i <= to - 4; i += 4) {
+            s0 += buffer.get(i);
+            s1 += buffer.get(i + 1);
+            s2 += buffer.get(i + 2);
+            s3 += buffer.get(i + 3);
+        }
+        for (; i < to; i++) {
+            s0 += buffer.get(i);
+        }
+        return s0 + s1 + s2 + s3;
+    }
+
+    /**
+     * @requires values != null
+     * @signals (ArithmeticException) the exact sum does not fit in a long
+     */
+    public static long sumExact(long[] values) {
+        return sumExactRange(values, 0, values.length);
+    }
+
+    /**
+     * @requires values != null
+     * @signals (ArithmeticException) the exact sum does not fit in a long
+     */
+    public static long sumExact(LongList values) {
+        return sumExactRange(values.elements(), 0, values.size());
+    }
+
+    /**
+     * @requires buffer != null
+     * @ensures buffer.position() == \old(buffer.position())
+     * @signals (ArithmeticException) the exact sum does not fit in a long
+     */
+    public static long sumExact(LongBuffer buffer) {
+        int from = buffer.position();
+        int to = buffer.limit();
+        if (buffer.hasArray()) {
+            int offset = buffer.arrayOffset();
+            return sumExactRange(buffer.array(), offset + from, offset + to);
+        }
+        long low = 0;
+        long high = 0;
+        for (int i = from; i < to; i++) {
+            long value = buffer.get(i);
+            long next = low + value;
+            high += (value >> 63) + (Long.compareUnsigned(next, low) < 0 ? 1 : 0);
+            low = next;
+        }
+        return narrow(high, low);
+    }
+
+    /**
+     * Sums in the caller-supplied pool, splitting ranges until they hold at most
+     * {@code threshold} elements. Lists without random access are copied to an array first.
+     * Wrapping addition is associative, so the result equals {@link #sumWildcard(List)}
+     * whatever the split.
+     *
+     * @requires numbers != null && pool != null && threshold > 0
+     * @ensures \result == sumWildcard(numbers)
+     */
+    public static long parallelSum(List<? extends Number> numbers, ForkJoinPool pool, int threshold) {
+        List<? extends Number> source = splittable(numbers, pool, threshold);
+        if (source.isEmpty()) {
+            return 0;
+        }
+        return pool.invoke(new SumTask(source, 0, source.size(), threshold, false))[1];
+    }
+
+    /**
+     * Sums in the common pool with the default threshold.
+     *
+     * @requires numbers != null
+     */
+    public static long parallelSum(List<? extends Number> numbers) {
+        return parallelSum(numbers, ForkJoinPool.commonPool(), DEFAULT_SPLIT_THRESHOLD);
+    }
+
+    /**
+     * Exact sum of the {@link Number#longValue()} of every element, computed like
+     * {@link #parallelSum(List, ForkJoinPool, int)}. Each task accumulates on 128 bits (two longs),
+     * which cannot overflow for a list, and only the final result is widened to a
+     * {@link BigInteger}; being exact, it does not depend on the split either.
+     *
+     * @requires numbers != null && pool != null && threshold > 0
+     */
+    public static BigInteger parallelSumExact(List<? extends Number> numbers, ForkJoinPool pool, int threshold) {
+        List<? extends Number> source = splittable(numbers, pool, threshold);
+        if (source.isEmpty()) {
+            return BigInteger.ZERO;
+        }
+        long[] wide = pool.invoke(new SumTask(source, 0, source.size(), threshold, true));
+        return BigInteger.valueOf(wide[0]).shiftLeft(64).add(new BigInteger(Long.toUnsignedString(wide[1])));
+    }
+
+    private static List<? extends Number> splittable(List<? extends Number> numbers, ForkJoinPool pool,
+                                                     int threshold) {
+        if (pool == null) {
+            throw new IllegalArgumentException("pool must not be null");
+        }
+        if (threshold <= 0) {
+            throw new IllegalArgumentException("threshold must be positive: " + threshold);
+        }
+        return numbers instanceof RandomAccess ? numbers : Arrays.asList(numbers.toArray(new Number[0]));
+    }
+
+    /**
+     * Sums {@code numbers[from, to)}, as {@code {high, low}} on 128 bits in exact mode and as
+     * {@code {0, sum}} otherwise.
+     */
+    private static final class SumTask extends RecursiveTask<long[]> {
+
+        private static final long serialVersionUID = 1L;
+
+        @SuppressWarnings("serial")
+        private final List<? extends Number> numbers;
+        private final int from;
+        private final int to;
+        private final int threshold;
+        private final boolean exact;
+
+        SumTask(List<? extends Number> numbers, int from, int to, int threshold, boolean exact) {
+            this.numbers = numbers;
+            this.from = from;
+            this.to = to;
+            this.threshold = threshold;
+            this.exact = exact;
+        }
+
+        @Override
+        protected long[] compute() {
+            if (to - from <= threshold) {
+                if (!exact) {
+                    return new long[] {0, sumNumbers(numbers, from, to)};
+                }
+                long[] wide = new long[2];
+                sumNumbersWide(numbers, from, to, wide);
+                return wide;
+            }
+            int mid = (from + to) >>> 1;
+            SumTask left = new SumTask(numbers, from, mid, threshold, exact);
+            left.fork();
+            long[] right = new SumTask(numbers, mid, to, threshold, exact).compute();
+            long[] sum = left.join();
+            long low = sum[1] + right[1];
+            if (exact) {
+                sum[0] += right[0] + (Long.compareUnsigned(low, sum[1]) < 0 ? 1 : 0);
+            }
+            sum[1] = low;
+            return sum;
+        }
+    }
+
+    /**
+     * Boxed sums: lists holding only {@link Integer} or only {@link Long} elements are read with
+     * an exact class check and a direct unboxing, instead of a virtual {@link Number#longValue()}
+     * call per element. Other element types are still summed through {@code longValue()}.
+     */
+    private static long sumNumbers(List<? extends Number> numbers) {
+        if (!(numbers instanceof RandomAccess)) {
+            long sum = 0;
+            for (Number number : numbers) {
+                sum += number.longValue();
+            }
+            return sum;
+        }
+        return sumNumbers(numbers, 0, numbers.size());
+    }
+
+    /**
+     * @requires numbers instanceof RandomAccess && 0 <= from <= to <= numbers.size()
+     */
+    private static long sumNumbers(List<? extends Number> numbers, int from, int to) {
+        if (from == to) {
+            return 0;
+        }
+        Class<?> type = numbers.get(from).getClass();
+        long sum = 0;
+        int i = from;
+        if (type == Integer.class) {
+            for (; i < to; i++) {
+                Number number = numbers.get(i);
+                if (number.getClass() != Integer.class) {
+                    break;
+                }
+                sum += (Integer) number;
+            }
+        } else if (type == Long.class) {
+            for (; i < to; i++) {
+                Number number = numbers.get(i);
+                if (number.getClass() != Long.class) {
+                    break;
+                }
+                sum += (Long) number;
+            }
+        }
+        for (; i < to; i++) {
+            sum += numbers.get(i).longValue();
+        }
+        return sum;
+    }
+
+    /**
+     * Adds {@code numbers[from, to)} to the 128-bit value {@code wide[0]:wide[1]}. A list of at
+     * most 2^31 longs sums to less than 2^94 in magnitude, so the accumulator never overflows.
+     *
+     * @requires numbers instanceof RandomAccess && 0 <= from <= to <= numbers.size()
+     */
+    private static void sumNumbersWide(List<? extends Number> numbers, int from, int to, long[] wide) {
+        long high = wide[0];
+        long low = wide[1];
+        for (int i = from; i < to; i++) {
+            Number number = numbers.get(i);
+            long value = number.getClass() == Long.class ? (Long) number
+                : number.getClass() == Integer.class ? (Integer) number
+                : number.longValue();
+            long next = low + value;
+            high += (value >> 63) + (Long.compareUnsigned(next, low) < 0 ? 1 : 0);
+            low = next;
+        }
+        wide[0] = high;
+        wide[1] = low;
+    }
+
+    /**
+     * Four independent accumulators, so that consecutive additions do not wait on each other.
+     */
+    private static long sumRange(int[] values, int from, int to) {
+        long s0 = 0, s1 = 0, s2 = 0, s3 = 0;
+        int i = from;
+        for (; i <= to - 4; i += 4) {
+            s0 += values[i];
+            s1 += values[i + 1];
+            s2 += values[i + 2];
+            s3 += values[i + 3];
+        }
+        for (; i < to; i++) {
+            s0 += values[i];
+        }
+        return s0 + s1 + s2 + s3;
+    }
+
+    private static long sumRange(long[] values, int from, int to) {
+        long s0 = 0, s1 = 0, s2 = 0, s3 = 0;
+        int i = from;
+        for (; i <= to - 4; i += 4) {
+            s0 += values[i];
+            s1 += values[i + 1];
+            s2 += values[i + 2];
+            s3 += values[i + 3];
+        }
+        for (; i < to; i++) {
+            s0 += values[i];
+        }
+        return s0 + s1 + s2 + s3;
+    }
+
+    /**
+     * The unrolled {@link Math#addExact} loop may overflow in one accumulator although the total
+     * fits, e.g. for {@code MAX_VALUE, 0, 0, 0, 1, 0, 0, 0, -1}: only then the range is summed
+     * again on 128 bits, so that the result never depends on the order of the additions.
+     */
+    private static long sumExactRange(long[] values, int from, int to) {
+        try {
+            long s0 = 0, s1 = 0, s2 = 0, s3 = 0;
+            int i = from;
+            for (; i <= to - 4; i += 4) {
+                s0 = Math.addExact(s0, values[i]);
+                s1 = Math.addExact(s1, values[i + 1]);
+                s2 = Math.addExact(s2, values[i + 2]);
+                s3 = Math.addExact(s3, values[i + 3]);
+            }
+            for (; i < to; i++) {
+                s0 = Math.addExact(s0, values[i]);
+            }
+            return Math.addExact(Math.addExact(s0, s1), Math.addExact(s2, s3));
+        } catch (ArithmeticException overflow) {
+            long low = 0;
+            long high = 0;
+            for (int i = from; i < to; i++) {
+                long next = low + values[i];
+                high += (values[i] >> 63) + (Long.compareUnsigned(next, low) < 0 ? 1 : 0);
+                low = next;
+            }
+            return narrow(high, low);
+        }
+    }
+
+    /**
+     * @ensures \result == the 128-bit value high:low
+     * @signals (ArithmeticException) high:low does not fit in a long
+     */
+    private static long narrow(long high, long low) {
+        if (high != low >> 63) {
+            throw new ArithmeticException("long overflow");
+        }
+        return low;
     }
 
     /**
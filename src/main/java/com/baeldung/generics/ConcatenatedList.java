@@ -0,0 +1,133 @@
+package com.baeldung.generics;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+import java.util.function.Consumer;
+
+/**
+ * Read-only view of several lists one after the other, built without copying their elements.
+ *
+ * The view keeps the start offset of every part, so {@link #get(int)} is O(1) for two parts and
+ * O(log k) for k parts; iteration walks the parts directly. Changes to the elements of the parts
+ * show through the view, but the parts must not change size while it is used.
+ * @invariant offsets[0] == 0 && offsets[i + 1] == offsets[i] + parts[i].size()
+ */
+public final class ConcatenatedList<E> extends AbstractList<E> implements RandomAccess {
+
+    private final List<? extends E>[] parts;
+    private final int[] offsets;
+
+    private ConcatenatedList(List<? extends E>[] parts, int[] offsets) {
+        this.parts = parts;
+        this.offsets = offsets;
+    }
+
+    /**
+     * Parts without random access are copied once, so that every part answers {@code get} in O(1).
+     *
+     * @requires lists != null && no list in lists is null
+     * @signals (IllegalArgumentException) the total size exceeds Integer.MAX_VALUE
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    static <E> ConcatenatedList<E> of(List<? extends List<? extends E>> lists) {
+        List<? extends E>[] parts = new List[lists.size()];
+        int[] offsets = new int[parts.length + 1];
+        int i = 0;
+        for (List<? extends E> list : lists) {
+            parts[i] = list instanceof RandomAccess ? list : (List<? extends E>) Arrays.asList(list.toArray());
+            long end = (long) offsets[i] + parts[i].size();
+            if (end > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Concatenated size exceeds Integer.MAX_VALUE: " + end);
+            }
+            offsets[++i] = (int) end;
+        }
+        return new ConcatenatedList<>(parts, offsets);
+    }
+
+    @Override
+    public E get(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size());
+        }
+        int part = partOf(index);
+        return parts[part].get(index - offsets[part]);
+    }
+
+    @Override
+    public int size() {
+        return offsets[parts.length];
+    }
+
+    /**
+     * Copies the elements into a new, independent and modifiable list, part by part.
+     *
+     * @ensures \result.equals(this) && \result is an ArrayList
+     */
+    public List<E> materialize() {
+        List<E> copy = new ArrayList<>(size());
+        for (List<? extends E> part : parts) {
+            copy.addAll(part);
+        }
+        return copy;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<E>() {
+            private int part;
+            private int next;
+
+            @Override
+            public boolean hasNext() {
+                while (part < parts.length && next == parts[part].size()) {
+                    part++;
+                    next = 0;
+                }
+                return part < parts.length;
+            }
+
+            @Override
+            public E next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return parts[part].get(next++);
+            }
+        };
+    }
+
+    @Override
+    public void forEach(Consumer<? super E> action) {
+        for (List<? extends E> part : parts) {
+            part.forEach(action);
+        }
+    }
+
+    /**
+     * Index of the part holding {@code index}: the last part whose offset is not above it,
+     * skipping empty parts.
+     *
+     * @requires 0 <= index < size()
+     */
+    private int partOf(int index) {
+        if (parts.length == 2) {
+            return index < offsets[1] ? 0 : 1;
+        }
+        int low = 0;
+        int high = parts.length - 1;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (offsets[mid] <= index) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return low;
+    }
+}
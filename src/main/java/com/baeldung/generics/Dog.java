@@ -13,6 +13,20 @@ public class Dog extends Animal {
         super(type, name);
     }
 
+    /**
+     * Creates a dog holding the canonical type and name of {@code symbols}, and their ids, so
+     * that a population interned through the same symbols stores each distinct string once.
+     *
+     * @requires type != null && name != null && symbols != null
+     * @ensures \result.getType() == symbols.types().symbol(\result.getTypeId())
+     *          && \result.getName() == symbols.names().symbol(\result.getNameId())
+     */
+    public static Dog interned(String type, String name, AnimalSymbols symbols) {
+        int typeId = symbols.types().intern(type);
+        int nameId = symbols.names().intern(name);
+        return new Interned(symbols.types().symbol(typeId), typeId, symbols.names().symbol(nameId), nameId);
+    }
+
     /**
      * @ensures \result.equals("Wuf")
      */
@@ -20,4 +34,29 @@ public class Dog extends Animal {
     public String makeSound() {
         return "Wuf";
     }
+
+    /**
+     * Ids of an interned dog; the symbols stay with the caller.
+     */
+    private static final class Interned extends Dog {
+
+        private final int typeId;
+        private final int nameId;
+
+        Interned(String type, int typeId, String name, int nameId) {
+            super(type, name);
+            this.typeId = typeId;
+            this.nameId = nameId;
+        }
+
+        @Override
+        public int getTypeId() {
+            return typeId;
+        }
+
+        @Override
+        public int getNameId() {
+            return nameId;
+        }
+    }
 }
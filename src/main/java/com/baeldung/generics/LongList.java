@@ -0,0 +1,95 @@
+package com.baeldung.generics;
+
+import java.util.Arrays;
+
+/**
+ * Growable list of primitive {@code long} values, stored in a single array
+ * without boxing.
+ *
+ * Not thread-safe.
+ * @invariant 0 <= size <= elements.length
+ */
+public final class LongList {
+
+    private static final int DEFAULT_CAPACITY = 10;
+
+    private long[] elements;
+    private int size;
+
+    public LongList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @requires initialCapacity >= 0
+     * @signals (IllegalArgumentException) initialCapacity < 0
+     */
+    public LongList(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("initialCapacity must not be negative: " + initialCapacity);
+        }
+        this.elements = new long[initialCapacity];
+    }
+
+    /**
+     * @ensures \result.size() == values.length && \result.get(i) == values[i]
+     */
+    public static LongList of(long... values) {
+        LongList list = new LongList(values.length);
+        System.arraycopy(values, 0, list.elements, 0, values.length);
+        list.size = values.length;
+        return list;
+    }
+
+    /**
+     * @ensures size() == \old(size()) + 1 && get(size() - 1) == value
+     */
+    public void add(long value) {
+        if (size == elements.length) {
+            elements = Arrays.copyOf(elements, Math.max(DEFAULT_CAPACITY, size + (size >> 1)));
+        }
+        elements[size++] = value;
+    }
+
+    /**
+     * @signals (IndexOutOfBoundsException) index < 0 || index >= size()
+     */
+    public long get(int index) {
+        return elements[checkIndex(index)];
+    }
+
+    /**
+     * @ensures \result == \old(get(index)) && get(index) == value
+     * @signals (IndexOutOfBoundsException) index < 0 || index >= size()
+     */
+    public long set(int index, long value) {
+        long previous = elements[checkIndex(index)];
+        elements[index] = value;
+        return previous;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @ensures \result.length == size() && \result is a copy
+     */
+    public long[] toArray() {
+        return Arrays.copyOf(elements, size);
+    }
+
+    /**
+     * Backing array, valid in {@code [0, size())}; for the bulk kernels of {@link CollectionUtils}.
+     */
+    long[] elements() {
+        return elements;
+    }
+
+    private int checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size);
+        }
+        return index;
+    }
+}
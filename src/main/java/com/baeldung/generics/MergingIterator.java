@@ -0,0 +1,113 @@
+package com.baeldung.generics;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Lazy k-way merge of sorted iterators.
+ *
+ * The sources play a tournament in a loser tree: every internal node keeps the source that lost
+ * the match played there, and the overall winner is the smallest current head. After the winner
+ * is returned, only the matches on the path from its leaf to the root are replayed, so each
+ * element costs exactly ceil(log2 k) comparisons (a binary heap needs up to twice as many) and
+ * memory stays O(k). Equal heads are ordered by source index, which makes the merge stable: the
+ * result is the one a stable sort of the concatenated sources would give.
+ */
+final class MergingIterator<E> implements Iterator<E> {
+
+    private final Iterator<? extends E>[] sources;
+    private final Comparator<? super E> comparator;
+    private final Object[] heads;
+    private final boolean[] exhausted;
+    /** tree[0]: winner; tree[1, k): loser of the match at that node, whose children are 2i and 2i + 1. */
+    private final int[] tree;
+    private final int k;
+
+    /**
+     * @requires every source is sorted by comparator
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    MergingIterator(List<? extends Iterator<? extends E>> sources, Comparator<? super E> comparator) {
+        if (comparator == null) {
+            throw new IllegalArgumentException("comparator must not be null");
+        }
+        this.sources = sources.toArray(new Iterator[0]);
+        this.comparator = comparator;
+        this.k = this.sources.length;
+        this.heads = new Object[k];
+        this.exhausted = new boolean[k];
+        for (int source = 0; source < k; source++) {
+            advance(source);
+        }
+        this.tree = new int[Math.max(1, k)];
+        if (k > 0) {
+            tree[0] = play(1);
+        }
+    }
+
+    /**
+     * Plays the matches of the subtree rooted at {@code node}, leaves being numbered from
+     * {@code k} to {@code 2k - 1}, and returns its winner.
+     */
+    private int play(int node) {
+        if (node >= k) {
+            return node - k;
+        }
+        int left = play(2 * node);
+        int right = play(2 * node + 1);
+        if (less(right, left)) {
+            tree[node] = left;
+            return right;
+        }
+        tree[node] = right;
+        return left;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return k > 0 && !exhausted[tree[0]];
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        int winner = tree[0];
+        E result = (E) heads[winner];
+        advance(winner);
+        for (int node = (winner + k) >>> 1; node > 0; node >>>= 1) {
+            int loser = tree[node];
+            if (less(loser, winner)) {
+                tree[node] = winner;
+                winner = loser;
+            }
+        }
+        tree[0] = winner;
+        return result;
+    }
+
+    private void advance(int source) {
+        if (sources[source].hasNext()) {
+            heads[source] = sources[source].next();
+        } else {
+            heads[source] = null;
+            exhausted[source] = true;
+        }
+    }
+
+    /**
+     * Exhausted sources rank after every other one.
+     */
+    @SuppressWarnings("unchecked")
+    private boolean less(int a, int b) {
+        if (exhausted[a] || exhausted[b]) {
+            return !exhausted[a] || (exhausted[b] && a < b);
+        }
+        int order = comparator.compare((E) heads[a], (E) heads[b]);
+        return order < 0 || (order == 0 && a < b);
+    }
+}
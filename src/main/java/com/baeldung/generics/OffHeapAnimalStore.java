@@ -0,0 +1,410 @@
+package com.baeldung.generics;
+
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemoryLayout;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static java.lang.foreign.MemoryLayout.PathElement.groupElement;
+
+/**
+ * Animal records stored outside the Java heap, for populations too large for the collector to
+ * trace cheaply.
+ *
+ * Each animal is a fixed 16-byte record in one off-heap segment: the offset and UTF-8 length of
+ * its name in a second segment, its type id and its kind. The heap only holds the few type
+ * strings, so full collections no longer scale with the population. Memory is owned by a shared
+ * {@link Arena} opened with the store and released by {@link #close()}, not by the collector;
+ * accessing a closed store throws {@link IllegalStateException}.
+ *
+ * {@link #save(Path)} writes the segments to a file that {@link #load(Path)} maps back without
+ * copying or decoding: a restart reads the records once to validate them, and pages names in
+ * only when they are accessed. Loaded stores are read-only. All values are little-endian,
+ * whatever the platform.
+ *
+ * Uses the foreign memory API, a preview feature of Java 21: this is the only class compiled with
+ * {@code --enable-preview}, and the JVM loading it needs the same flag. Appending is not
+ * thread-safe; reading is, until the store is closed.
+ * @invariant 0 <= size <= capacity && nameBytes <= names.byteSize()
+ */
+public final class OffHeapAnimalStore implements AutoCloseable {
+
+    /** Longest name, in UTF-8 bytes, that a record can describe. */
+    public static final int MAX_NAME_BYTES = 0xFFFF;
+
+    private static final ValueLayout.OfLong NAME_OFFSET = ValueLayout.JAVA_LONG.withOrder(ByteOrder.LITTLE_ENDIAN);
+    private static final ValueLayout.OfInt TYPE_ID = ValueLayout.JAVA_INT.withOrder(ByteOrder.LITTLE_ENDIAN);
+    private static final ValueLayout.OfShort NAME_LENGTH = ValueLayout.JAVA_SHORT.withOrder(ByteOrder.LITTLE_ENDIAN);
+    /** Length prefix of a type string, at any offset of the type section. */
+    private static final ValueLayout.OfInt TYPE_LENGTH = ValueLayout.JAVA_INT_UNALIGNED.withOrder(ByteOrder.LITTLE_ENDIAN);
+
+    static final MemoryLayout RECORD = MemoryLayout.structLayout(
+        NAME_OFFSET.withName("nameOffset"),
+        TYPE_ID.withName("typeId"),
+        NAME_LENGTH.withName("nameLength"),
+        ValueLayout.JAVA_BYTE.withName("kind"),
+        MemoryLayout.paddingLayout(1));
+
+    private static final long RECORD_SIZE = RECORD.byteSize();
+    private static final long NAME_OFFSET_AT = RECORD.byteOffset(groupElement("nameOffset"));
+    private static final long TYPE_ID_AT = RECORD.byteOffset(groupElement("typeId"));
+    private static final long NAME_LENGTH_AT = RECORD.byteOffset(groupElement("nameLength"));
+    private static final long KIND_AT = RECORD.byteOffset(groupElement("kind"));
+
+    /** File header: magic, version, record count, name bytes, type count, types section size. */
+    private static final int MAGIC = 0x414E4D4C;
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 32;
+
+    private static final AnimalStore.Kind[] KINDS = AnimalStore.Kind.values();
+
+    private final Arena arena;
+    private final MemorySegment records;
+    private final MemorySegment names;
+    private final SymbolTable types;
+    private final boolean readOnly;
+    private long size;
+    private long nameBytes;
+
+    private OffHeapAnimalStore(Arena arena, MemorySegment records, MemorySegment names, SymbolTable types,
+                               boolean readOnly, long size, long nameBytes) {
+        this.arena = arena;
+        this.records = records;
+        this.names = names;
+        this.types = types;
+        this.readOnly = readOnly;
+        this.size = size;
+        this.nameBytes = nameBytes;
+    }
+
+    /**
+     * Opens an empty store for up to {@code capacity} animals whose names take up to
+     * {@code nameCapacity} UTF-8 bytes in total.
+     *
+     * @requires capacity >= 0 && nameCapacity >= 0
+     * @signals (IllegalArgumentException) capacity < 0 || nameCapacity < 0
+     */
+    public static OffHeapAnimalStore allocate(long capacity, long nameCapacity) {
+        if (capacity < 0 || nameCapacity < 0) {
+            throw new IllegalArgumentException("Capacities must not be negative: " + capacity + ", " + nameCapacity);
+        }
+        Arena arena = Arena.ofShared();
+        try {
+            MemorySegment records = arena.allocate(RECORD_SIZE * capacity, RECORD.byteAlignment());
+            MemorySegment names = arena.allocate(nameCapacity, 1);
+            return new OffHeapAnimalStore(arena, records, names, new SymbolTable(1), false, 0, 0);
+        } catch (RuntimeException | OutOfMemoryError e) {
+            arena.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Appends the kind, type and name of {@code animal}.
+     *
+     * @requires animal is a Cat or a Dog
+     * @signals (IllegalArgumentException) animal is neither a Cat nor a Dog
+     */
+    public long add(Animal animal) {
+        return add(AnimalStore.Kind.of(animal), animal.getType(), animal.getName());
+    }
+
+    /**
+     * Appends a record and returns its index.
+     *
+     * @requires kind != null && type != null && name != null
+     * @ensures \result == \old(size())
+     * @signals (IllegalArgumentException) name is longer than MAX_NAME_BYTES in UTF-8
+     * @signals (IllegalStateException) the store is read-only, closed or full
+     */
+    public long add(AnimalStore.Kind kind, String type, String name) {
+        if (kind == null) {
+            throw new IllegalArgumentException("kind must not be null");
+        }
+        if (readOnly) {
+            throw new IllegalStateException("Loaded stores are read-only");
+        }
+        byte[] encoded = name.getBytes(StandardCharsets.UTF_8);
+        if (encoded.length > MAX_NAME_BYTES) {
+            throw new IllegalArgumentException("Name longer than " + MAX_NAME_BYTES + " bytes: " + encoded.length);
+        }
+        if (size == capacity() || nameBytes + encoded.length > names.byteSize()) {
+            throw new IllegalStateException("OffHeapAnimalStore is full: " + this);
+        }
+        MemorySegment.copy(encoded, 0, names, ValueLayout.JAVA_BYTE, nameBytes, encoded.length);
+        long record = size * RECORD_SIZE;
+        records.set(NAME_OFFSET, record + NAME_OFFSET_AT, nameBytes);
+        records.set(TYPE_ID, record + TYPE_ID_AT, types.intern(type));
+        records.set(NAME_LENGTH, record + NAME_LENGTH_AT, (short) encoded.length);
+        records.set(ValueLayout.JAVA_BYTE, record + KIND_AT, (byte) kind.ordinal());
+        nameBytes += encoded.length;
+        return size++;
+    }
+
+    public long size() {
+        return size;
+    }
+
+    public long capacity() {
+        return records.byteSize() / RECORD_SIZE;
+    }
+
+    /**
+     * UTF-8 bytes used by the names so far.
+     */
+    public long nameBytes() {
+        return nameBytes;
+    }
+
+    /**
+     * On-heap table of the type ids; {@code types().symbol(id)} names slot {@code id} of
+     * {@link #countByType()}.
+     */
+    public SymbolTable types() {
+        return types;
+    }
+
+    /**
+     * @signals (IndexOutOfBoundsException) index < 0 || index >= size()
+     */
+    public AnimalStore.Kind kind(long index) {
+        return KINDS[records.get(ValueLayout.JAVA_BYTE, record(index) + KIND_AT)];
+    }
+
+    /**
+     * @signals (IndexOutOfBoundsException) index < 0 || index >= size()
+     */
+    public int typeId(long index) {
+        return records.get(TYPE_ID, record(index) + TYPE_ID_AT);
+    }
+
+    /**
+     * Canonical instance from {@link #types()}; no allocation.
+     *
+     * @signals (IndexOutOfBoundsException) index < 0 || index >= size()
+     */
+    public String type(long index) {
+        return types.symbol(typeId(index));
+    }
+
+    /**
+     * Decodes the name of record {@code index}.
+     *
+     * @signals (IndexOutOfBoundsException) index < 0 || index >= size()
+     */
+    public String name(long index) {
+        long record = record(index);
+        long offset = records.get(NAME_OFFSET, record + NAME_OFFSET_AT);
+        int length = Short.toUnsignedInt(records.get(NAME_LENGTH, record + NAME_LENGTH_AT));
+        byte[] bytes = new byte[length];
+        MemorySegment.copy(names, ValueLayout.JAVA_BYTE, offset, bytes, 0, length);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * UTF-8 length of the name of record {@code index}, without decoding it.
+     *
+     * @signals (IndexOutOfBoundsException) index < 0 || index >= size()
+     */
+    public int nameByteLength(long index) {
+        return Short.toUnsignedInt(records.get(NAME_LENGTH, record(index) + NAME_LENGTH_AT));
+    }
+
+    /**
+     * Creates the on-heap animal of record {@code index}.
+     *
+     * @signals (IndexOutOfBoundsException) index < 0 || index >= size()
+     */
+    public Animal get(long index) {
+        return kind(index).create(type(index), name(index));
+    }
+
+    /**
+     * Number of records of this kind; reads one byte per record.
+     */
+    public long count(AnimalStore.Kind kind) {
+        byte wanted = (byte) kind.ordinal();
+        long count = 0;
+        long end = size * RECORD_SIZE;
+        for (long record = 0; record < end; record += RECORD_SIZE) {
+            if (records.get(ValueLayout.JAVA_BYTE, record + KIND_AT) == wanted) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Number of records per type id, indexed by id.
+     *
+     * @ensures \result.length == types().size() && sum(\result) == size()
+     */
+    public long[] countByType() {
+        long[] counts = new long[types.size()];
+        long end = size * RECORD_SIZE;
+        for (long record = 0; record < end; record += RECORD_SIZE) {
+            counts[records.get(TYPE_ID, record + TYPE_ID_AT)]++;
+        }
+        return counts;
+    }
+
+    /**
+     * Writes the store to {@code file}, replacing it: a header, the type strings, then the
+     * records and names as they are in memory.
+     *
+     * @signals (IOException) the file cannot be written
+     */
+    public void save(Path file) throws IOException {
+        ByteBuffer typeSection = encodeTypes();
+        long recordBytes = size * RECORD_SIZE;
+        long fileSize = HEADER_SIZE + typeSection.remaining() + recordBytes + nameBytes;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.READ, StandardOpenOption.TRUNCATE_EXISTING);
+             Arena mapping = Arena.ofConfined()) {
+            MemorySegment out = channel.map(FileChannel.MapMode.READ_WRITE, 0, fileSize, mapping);
+            out.set(TYPE_ID, 0, MAGIC);
+            out.set(TYPE_ID, 4, VERSION);
+            out.set(NAME_OFFSET, 8, size);
+            out.set(NAME_OFFSET, 16, nameBytes);
+            out.set(TYPE_ID, 24, types.size());
+            out.set(TYPE_ID, 28, typeSection.remaining());
+            long position = HEADER_SIZE;
+            out.asSlice(position, typeSection.remaining()).copyFrom(MemorySegment.ofBuffer(typeSection));
+            position += typeSection.remaining();
+            out.asSlice(position, recordBytes).copyFrom(records.asSlice(0, recordBytes));
+            position += recordBytes;
+            out.asSlice(position, nameBytes).copyFrom(names.asSlice(0, nameBytes));
+            out.force();
+        }
+    }
+
+    /**
+     * Maps a file written by {@link #save(Path)}. The type strings are decoded and every record
+     * is checked in one sequential pass, so that accessors never fail on a corrupt file; names
+     * are paged in by the operating system when accessed.
+     *
+     * @ensures \result is read-only and equal, record by record, to the saved store
+     * @signals (IOException) the file cannot be read, is not a saved store, or holds a record
+     *          with an unknown kind or type id, or a name outside the names section
+     */
+    public static OffHeapAnimalStore load(Path file) throws IOException {
+        Arena arena = Arena.ofShared();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long fileSize = channel.size();
+            if (fileSize < HEADER_SIZE) {
+                throw new IOException("Not an animal store: " + file);
+            }
+            MemorySegment in = channel.map(FileChannel.MapMode.READ_ONLY, 0, fileSize, arena);
+            if (in.get(TYPE_ID, 0) != MAGIC || in.get(TYPE_ID, 4) != VERSION) {
+                throw new IOException("Not an animal store, or another version: " + file);
+            }
+            long size = in.get(NAME_OFFSET, 8);
+            long nameBytes = in.get(NAME_OFFSET, 16);
+            int typeCount = in.get(TYPE_ID, 24);
+            int typeBytes = in.get(TYPE_ID, 28);
+            if (size < 0 || nameBytes < 0 || typeCount < 0 || typeBytes < 0) {
+                throw new IOException("Corrupt animal store header: " + file);
+            }
+            long recordBytes;
+            try {
+                recordBytes = Math.multiplyExact(size, RECORD_SIZE);
+                if (Math.addExact(HEADER_SIZE + (long) typeBytes, Math.addExact(recordBytes, nameBytes)) != fileSize) {
+                    throw new IOException("Truncated or corrupt animal store: " + file);
+                }
+            } catch (ArithmeticException e) {
+                throw new IOException("Corrupt animal store header: " + file, e);
+            }
+            SymbolTable types = decodeTypes(in.asSlice(HEADER_SIZE, typeBytes), typeCount);
+            long position = HEADER_SIZE + (long) typeBytes;
+            MemorySegment records = in.asSlice(position, recordBytes);
+            MemorySegment names = in.asSlice(position + recordBytes, nameBytes);
+            checkRecords(records, recordBytes, typeCount, nameBytes);
+            return new OffHeapAnimalStore(arena, records, names, types, true, size, nameBytes);
+        } catch (IOException | RuntimeException e) {
+            arena.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Each type as a length and its UTF-8 bytes, in id order, padded so that the records that
+     * follow stay 8-byte aligned.
+     */
+    private ByteBuffer encodeTypes() {
+        byte[][] encoded = new byte[types.size()][];
+        int length = 0;
+        for (int id = 0; id < encoded.length; id++) {
+            encoded[id] = types.symbol(id).getBytes(StandardCharsets.UTF_8);
+            length += 4 + encoded[id].length;
+        }
+        ByteBuffer section = ByteBuffer.allocate((length + 7) & ~7).order(ByteOrder.LITTLE_ENDIAN);
+        for (byte[] type : encoded) {
+            section.putInt(type.length).put(type);
+        }
+        return section.clear();
+    }
+
+    private static SymbolTable decodeTypes(MemorySegment section, int typeCount) throws IOException {
+        SymbolTable types = new SymbolTable(1);
+        long position = 0;
+        for (int id = 0; id < typeCount; id++) {
+            if (position + 4 > section.byteSize()) {
+                throw new IOException("Corrupt type section");
+            }
+            int length = section.get(TYPE_LENGTH, position);
+            if (length < 0 || position + 4 + length > section.byteSize()) {
+                throw new IOException("Corrupt type section");
+            }
+            byte[] bytes = section.asSlice(position + 4, length).toArray(ValueLayout.JAVA_BYTE);
+            if (types.intern(new String(bytes, StandardCharsets.UTF_8)) != id) {
+                throw new IOException("Duplicate type in type section");
+            }
+            position += 4 + length;
+        }
+        return types;
+    }
+
+    private static void checkRecords(MemorySegment records, long recordBytes, int typeCount, long nameBytes)
+            throws IOException {
+        for (long record = 0; record < recordBytes; record += RECORD_SIZE) {
+            int kind = records.get(ValueLayout.JAVA_BYTE, record + KIND_AT);
+            int typeId = records.get(TYPE_ID, record + TYPE_ID_AT);
+            long offset = records.get(NAME_OFFSET, record + NAME_OFFSET_AT);
+            int length = Short.toUnsignedInt(records.get(NAME_LENGTH, record + NAME_LENGTH_AT));
+            if (kind < 0 || kind >= KINDS.length || typeId < 0 || typeId >= typeCount
+                    || offset < 0 || offset > nameBytes - length) {
+                throw new IOException("Corrupt record " + record / RECORD_SIZE);
+            }
+        }
+    }
+
+    private long record(long index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size);
+        }
+        return index * RECORD_SIZE;
+    }
+
+    /**
+     * Releases the memory, or unmaps the file, at once. Idempotent.
+     */
+    @Override
+    public void close() {
+        if (arena.scope().isAlive()) {
+            arena.close();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "OffHeapAnimalStore{size=" + size + ", capacity=" + capacity() + ", nameBytes=" + nameBytes
+            + ", readOnly=" + readOnly + '}';
+    }
+}
@@ -0,0 +1,197 @@
+package com.baeldung.generics;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.baeldung.util.Hashing;
+
+/**
+ * Concurrent intern pool mapping strings to dense int ids, for populations that repeat a small
+ * set of types and a long tail of names.
+ *
+ * Every distinct string is kept once and gets the next id, starting at 0: equal strings interned
+ * through the same table get the same id and the same canonical instance, so holders can compare
+ * ids instead of characters. Strings are spread over independently locked segments, each an
+ * open-addressing table of ids, so threads only contend when they hit the same segment. The
+ * reverse mapping is a directory of fixed-size pages, read without locking.
+ *
+ * Entries are never removed.
+ * @invariant 0 <= id < size() ==> intern(symbol(id)) == id
+ */
+public final class SymbolTable {
+
+    private static final int MAX_SEGMENTS = 64;
+    private static final int MIN_SEGMENT_CAPACITY = 16;
+    private static final int PAGE_SHIFT = 12;
+    private static final int PAGE_MASK = (1 << PAGE_SHIFT) - 1;
+
+    private final Segment[] segments;
+    private final int segmentShift;
+    private final AtomicInteger nextId = new AtomicInteger();
+    private final ReentrantLock pagesLock = new ReentrantLock();
+    /** pages[id >>> PAGE_SHIFT][id & PAGE_MASK] is the symbol of id; replaced, never mutated, once published. */
+    private volatile String[][] pages = new String[1][];
+
+    /**
+     * Four segments per core, up to 64.
+     */
+    public SymbolTable() {
+        this(Math.min(MAX_SEGMENTS, 4 * Runtime.getRuntime().availableProcessors()));
+    }
+
+    /**
+     * @requires concurrencyLevel > 0
+     * @signals (IllegalArgumentException) concurrencyLevel <= 0
+     */
+    public SymbolTable(int concurrencyLevel) {
+        if (concurrencyLevel <= 0) {
+            throw new IllegalArgumentException("concurrencyLevel must be positive: " + concurrencyLevel);
+        }
+        int segmentCount = Integer.highestOneBit(Math.min(MAX_SEGMENTS, concurrencyLevel));
+        this.segments = new Segment[segmentCount];
+        this.segmentShift = 32 - Integer.numberOfTrailingZeros(segmentCount);
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i] = new Segment();
+        }
+    }
+
+    /**
+     * Returns the id of {@code symbol}, assigning the next one if it was never interned.
+     *
+     * @requires symbol != null
+     * @ensures symbol(\result).equals(symbol)
+     * @signals (IllegalStateException) the table already holds Integer.MAX_VALUE symbols
+     */
+    public int intern(String symbol) {
+        int hash = Hashing.spread(symbol.hashCode());
+        // The top bits pick the segment, the low ones the slot within it.
+        Segment segment = segments.length == 1 ? segments[0] : segments[hash >>> segmentShift];
+        return segment.intern(symbol, hash);
+    }
+
+    /**
+     * Returns the canonical instance of the symbol with this id.
+     *
+     * @requires 0 <= id < size()
+     * @signals (IndexOutOfBoundsException) id < 0 || id >= size()
+     */
+    public String symbol(int id) {
+        String[][] directory = pages;
+        int page = id >>> PAGE_SHIFT;
+        if (id < 0 || page >= directory.length || directory[page] == null) {
+            throw new IndexOutOfBoundsException("No symbol with id " + id);
+        }
+        String symbol = directory[page][id & PAGE_MASK];
+        if (symbol == null) {
+            throw new IndexOutOfBoundsException("No symbol with id " + id);
+        }
+        return symbol;
+    }
+
+    /**
+     * Number of distinct symbols; exact when no other thread is interning.
+     */
+    public int size() {
+        return nextId.get();
+    }
+
+    /**
+     * Assigns the next id to {@code symbol} and publishes it. Called under the segment lock.
+     */
+    private int register(String symbol) {
+        int id = nextId.getAndIncrement();
+        if (id < 0) {
+            nextId.set(Integer.MIN_VALUE);
+            throw new IllegalStateException("SymbolTable cannot hold more than " + Integer.MAX_VALUE + " symbols");
+        }
+        page(id >>> PAGE_SHIFT)[id & PAGE_MASK] = symbol;
+        return id;
+    }
+
+    private String[] page(int page) {
+        String[][] directory = pages;
+        if (page < directory.length && directory[page] != null) {
+            return directory[page];
+        }
+        pagesLock.lock();
+        try {
+            directory = pages;
+            if (page >= directory.length) {
+                directory = Arrays.copyOf(directory, Math.max(page + 1, 2 * directory.length));
+            } else if (directory[page] != null) {
+                return directory[page];
+            } else {
+                directory = directory.clone();
+            }
+            directory[page] = new String[1 << PAGE_SHIFT];
+            pages = directory;
+            return directory[page];
+        } finally {
+            pagesLock.unlock();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "SymbolTable{size=" + size() + ", segments=" + segments.length + '}';
+    }
+
+    /**
+     * One lock-protected shard: parallel arrays of spread hashes and ids + 1 (0 marks a free slot),
+     * probed linearly and doubled when half full.
+     */
+    private final class Segment {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private int[] hashes = new int[MIN_SEGMENT_CAPACITY];
+        private int[] ids = new int[MIN_SEGMENT_CAPACITY];
+        private int size;
+
+        int intern(String symbol, int hash) {
+            lock.lock();
+            try {
+                int mask = ids.length - 1;
+                for (int slot = hash & mask; ; slot = (slot + 1) & mask) {
+                    int entry = ids[slot];
+                    if (entry == 0) {
+                        int id = register(symbol);
+                        hashes[slot] = hash;
+                        ids[slot] = id + 1;
+                        if (++size > ids.length >>> 1) {
+                            resize();
+                        }
+                        return id;
+                    }
+                    if (hashes[slot] == hash && symbol(entry - 1).equals(symbol)) {
+                        return entry - 1;
+                    }
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void resize() {
+            int[] oldHashes = hashes;
+            int[] oldIds = ids;
+            if (oldIds.length == 1 << 30) {
+                throw new IllegalStateException("SymbolTable segment is full");
+            }
+            int capacity = oldIds.length << 1;
+            int mask = capacity - 1;
+            hashes = new int[capacity];
+            ids = new int[capacity];
+            for (int i = 0; i < oldIds.length; i++) {
+                if (oldIds[i] != 0) {
+                    int slot = oldHashes[i] & mask;
+                    while (ids[slot] != 0) {
+                        slot = (slot + 1) & mask;
+                    }
+                    hashes[slot] = oldHashes[i];
+                    ids[slot] = oldIds[i];
+                }
+            }
+        }
+    }
+}
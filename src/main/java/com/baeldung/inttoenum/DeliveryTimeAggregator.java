@@ -0,0 +1,99 @@
+package com.baeldung.inttoenum;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Live totals of remaining delivery time over a population of orders, updated incrementally
+ * instead of scanning the orders.
+ *
+ * Each status has its own {@link LongAdder}, so concurrent updates spread over striped cells
+ * instead of contending on one counter. Every update is O(1), and so is every query, which
+ * combines the per-status counts with {@link PizzaStatus#getTimeToDelivery()}.
+ *
+ * A transition updates two counters in turn: a query running concurrently may see the order
+ * in neither or both statuses. Totals are exact once updates quiesce.
+ */
+public final class DeliveryTimeAggregator {
+
+    private static final PizzaStatus[] STATUSES = PizzaStatus.values();
+
+    private final LongAdder[] counts = new LongAdder[STATUSES.length];
+
+    public DeliveryTimeAggregator() {
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Starts tracking a new order in {@code status}.
+     */
+    public void add(PizzaStatus status) {
+        counts[status.ordinal()].increment();
+    }
+
+    /**
+     * Stops tracking an order, e.g. once a delivered order is archived.
+     */
+    public void remove(PizzaStatus status) {
+        counts[status.ordinal()].decrement();
+    }
+
+    /**
+     * @requires from.canTransitionTo(to)
+     * @signals (IllegalArgumentException) !from.canTransitionTo(to)
+     */
+    public void transition(PizzaStatus from, PizzaStatus to) {
+        if (!from.canTransitionTo(to)) {
+            throw new IllegalArgumentException("Illegal transition " + from + " -> " + to);
+        }
+        counts[to.ordinal()].increment();
+        counts[from.ordinal()].decrement();
+    }
+
+    public long count(PizzaStatus status) {
+        return counts[status.ordinal()].sum();
+    }
+
+    /**
+     * Orders not delivered yet.
+     */
+    public long openOrders() {
+        long open = 0;
+        for (PizzaStatus status : STATUSES) {
+            if (status != PizzaStatus.DELIVERED) {
+                open += counts[status.ordinal()].sum();
+            }
+        }
+        return open;
+    }
+
+    /**
+     * @ensures \result == (\sum PizzaStatus s; count(s) * s.getTimeToDelivery())
+     */
+    public long totalRemainingTime() {
+        long total = 0;
+        for (PizzaStatus status : STATUSES) {
+            total += counts[status.ordinal()].sum() * status.getTimeToDelivery();
+        }
+        return total;
+    }
+
+    /**
+     * Mean remaining time over open orders.
+     *
+     * @ensures openOrders() == 0 ==> \result == 0.0
+     */
+    public double averageRemainingTime() {
+        long open = 0;
+        long total = 0;
+        for (PizzaStatus status : STATUSES) {
+            long count = counts[status.ordinal()].sum();
+            total += count * status.getTimeToDelivery();
+            if (status != PizzaStatus.DELIVERED) {
+                open += count;
+            }
+        }
+        return open <= 0 ? 0.0 : (double) total / open;
+    }
+}
@@ -0,0 +1,59 @@
+package com.baeldung.inttoenum;
+
+import java.util.function.ToIntFunction;
+
+/**
+ * Two-way mapping between the constants of an enum and their {@code int} codes, replacing the
+ * per-enum {@code HashMap<Integer, E>} filled in a static block.
+ *
+ * Decoding goes through an {@link IntKeyLookup} laid out for the key distribution; encoding reads
+ * an array indexed by ordinal. Neither boxes nor allocates. Duplicate codes are rejected when
+ * the codec is built, instead of silently overwriting each other.
+ *
+ * Built from an enum's own static initializer, the codec must be declared after the constants.
+ */
+public final class IntEnumCodec<E extends Enum<E>> {
+
+    private final IntKeyLookup<E> lookup;
+    private final int[] codesByOrdinal;
+
+    private IntEnumCodec(IntKeyLookup<E> lookup, int[] codesByOrdinal) {
+        this.lookup = lookup;
+        this.codesByOrdinal = codesByOrdinal;
+    }
+
+    /**
+     * @requires type is an enum class and code is a pure function of the constant
+     * @signals (IllegalArgumentException) two constants share a code
+     */
+    public static <E extends Enum<E>> IntEnumCodec<E> of(Class<E> type, ToIntFunction<? super E> code) {
+        E[] constants = type.getEnumConstants();
+        if (constants == null) {
+            throw new IllegalArgumentException(type + " is not an enum class");
+        }
+        int[] codesByOrdinal = new int[constants.length];
+        for (E constant : constants) {
+            codesByOrdinal[constant.ordinal()] = code.applyAsInt(constant);
+        }
+        return new IntEnumCodec<>(IntKeyLookup.of(constants, constant -> codesByOrdinal[constant.ordinal()]),
+            codesByOrdinal);
+    }
+
+    /**
+     * @ensures \result == null <==> no constant has this code
+     */
+    public E decode(int code) {
+        return lookup.get(code);
+    }
+
+    /**
+     * @requires value != null
+     */
+    public int encode(E value) {
+        return codesByOrdinal[value.ordinal()];
+    }
+
+    public IntKeyLookup.Strategy strategy() {
+        return lookup.strategy();
+    }
+}
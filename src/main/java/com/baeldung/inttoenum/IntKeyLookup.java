@@ -0,0 +1,238 @@
+package com.baeldung.inttoenum;
+
+import java.util.Arrays;
+import java.util.function.ToIntFunction;
+
+/**
+ * Immutable map from {@code int} keys to values, built once and queried without boxing
+ * or allocation.
+ *
+ * The layout is chosen from the key distribution at build time:
+ * <ul>
+ *   <li>{@link Strategy#DENSE}: keys spanning a small range, stored in an array indexed by {@code key - min};</li>
+ *   <li>{@link Strategy#PERFECT_HASH}: sparse keys, placed by a collision-free hash so that a
+ *   lookup reads one bucket seed and probes one slot;</li>
+ *   <li>{@link Strategy#BINARY_SEARCH}: key sets for which no perfect hash was found, stored sorted.</li>
+ * </ul>
+ * Unknown keys give {@code null}.
+ */
+public final class IntKeyLookup<V> {
+
+    /**
+     * Layout of a lookup, from fastest to slowest.
+     */
+    public enum Strategy {
+        DENSE,
+        PERFECT_HASH,
+        BINARY_SEARCH
+    }
+
+    /**
+     * Largest range accepted for the dense layout, whatever the number of keys.
+     */
+    static final int MAX_DENSE_RANGE = 1024;
+
+    /**
+     * Seeds tried per bucket before giving up on the perfect hash.
+     */
+    static final int MAX_SEEDS_PER_BUCKET = 1 << 16;
+
+    private final Strategy strategy;
+    private final int size;
+    /** DENSE: smallest key. PERFECT_HASH: shift selecting the bucket. */
+    private final int min;
+    /** PERFECT_HASH: shift selecting the slot. */
+    private final int shift;
+    /** PERFECT_HASH: seed of each bucket. */
+    private final int[] seeds;
+    private final int[] keys;
+    private final Object[] values;
+
+    private IntKeyLookup(Strategy strategy, int size, int min, int shift, int[] seeds, int[] keys, Object[] values) {
+        this.strategy = strategy;
+        this.size = size;
+        this.min = min;
+        this.shift = shift;
+        this.seeds = seeds;
+        this.keys = keys;
+        this.values = values;
+    }
+
+    /**
+     * @requires values contains no null
+     * @ensures (\forall V v : values; \result.get(key.applyAsInt(v)) == v)
+     * @signals (IllegalArgumentException) two values share a key
+     */
+    public static <V> IntKeyLookup<V> of(V[] values, ToIntFunction<? super V> key) {
+        return of(values, key, MAX_SEEDS_PER_BUCKET);
+    }
+
+    /**
+     * @requires maxSeedsPerBucket >= 0, 0 disabling the perfect hash
+     */
+    static <V> IntKeyLookup<V> of(V[] values, ToIntFunction<? super V> key, int maxSeedsPerBucket) {
+        int n = values.length;
+        int[] codes = new int[n];
+        Integer[] order = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            if (values[i] == null) {
+                throw new IllegalArgumentException("null value at index " + i);
+            }
+            codes[i] = key.applyAsInt(values[i]);
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Integer.compare(codes[a], codes[b]));
+        int[] sortedKeys = new int[n];
+        Object[] sortedValues = new Object[n];
+        for (int i = 0; i < n; i++) {
+            sortedKeys[i] = codes[order[i]];
+            sortedValues[i] = values[order[i]];
+            if (i > 0 && sortedKeys[i] == sortedKeys[i - 1]) {
+                throw new IllegalArgumentException("Duplicate key " + sortedKeys[i] + " for "
+                    + sortedValues[i - 1] + " and " + sortedValues[i]);
+            }
+        }
+        if (n == 0) {
+            return new IntKeyLookup<>(Strategy.DENSE, 0, 0, 0, null, null, new Object[0]);
+        }
+
+        int min = sortedKeys[0];
+        long range = (long) sortedKeys[n - 1] - min + 1;
+        if (range <= Math.max(MAX_DENSE_RANGE, 4L * n)) {
+            Object[] dense = new Object[(int) range];
+            for (int i = 0; i < n; i++) {
+                dense[sortedKeys[i] - min] = sortedValues[i];
+            }
+            return new IntKeyLookup<>(Strategy.DENSE, n, min, 0, null, null, dense);
+        }
+
+        IntKeyLookup<V> perfect = perfectHash(sortedKeys, sortedValues, maxSeedsPerBucket);
+        if (perfect != null) {
+            return perfect;
+        }
+        return new IntKeyLookup<>(Strategy.BINARY_SEARCH, n, 0, 0, null, sortedKeys, sortedValues);
+    }
+
+    /**
+     * Hash-and-displace: keys are grouped into buckets of about four, then each bucket, largest
+     * first, gets the first seed that sends all its keys to free slots of a table at most half
+     * full. The seeds are tried in a fixed order, so the same keys always give the same layout.
+     *
+     * @ensures \result == null ==> some bucket found no seed
+     */
+    private static <V> IntKeyLookup<V> perfectHash(int[] keys, Object[] values, int maxSeedsPerBucket) {
+        int n = keys.length;
+        int slots = Integer.highestOneBit(2 * n - 1) << 1;
+        int buckets = Math.max(2, Integer.highestOneBit(Math.max(1, n / 4)));
+        int slotShift = 32 - Integer.numberOfTrailingZeros(slots);
+        int bucketShift = 32 - Integer.numberOfTrailingZeros(buckets);
+
+        int[][] members = new int[buckets][];
+        int[] memberCount = new int[buckets];
+        for (int key : keys) {
+            memberCount[mix(key) >>> bucketShift]++;
+        }
+        for (int b = 0; b < buckets; b++) {
+            members[b] = new int[memberCount[b]];
+            memberCount[b] = 0;
+        }
+        for (int i = 0; i < n; i++) {
+            int b = mix(keys[i]) >>> bucketShift;
+            members[b][memberCount[b]++] = i;
+        }
+        Integer[] order = new Integer[buckets];
+        for (int b = 0; b < buckets; b++) {
+            order[b] = b;
+        }
+        Arrays.sort(order, (a, b) -> Integer.compare(memberCount[b], memberCount[a]));
+
+        int[] seeds = new int[buckets];
+        int[] tableKeys = new int[slots];
+        Object[] tableValues = new Object[slots];
+        int[] taken = new int[4];
+        for (int b : order) {
+            int[] bucket = members[b];
+            if (bucket.length == 0) {
+                break;
+            }
+            if (taken.length < bucket.length) {
+                taken = new int[bucket.length];
+            }
+            boolean placed = false;
+            for (int seed = 0; seed < maxSeedsPerBucket && !placed; seed++) {
+                placed = true;
+                for (int j = 0; j < bucket.length; j++) {
+                    int slot = slot(mix(keys[bucket[j]]), seed, slotShift);
+                    if (tableValues[slot] != null || contains(taken, j, slot)) {
+                        placed = false;
+                        break;
+                    }
+                    taken[j] = slot;
+                }
+                if (placed) {
+                    seeds[b] = seed;
+                    for (int j = 0; j < bucket.length; j++) {
+                        tableKeys[taken[j]] = keys[bucket[j]];
+                        tableValues[taken[j]] = values[bucket[j]];
+                    }
+                }
+            }
+            if (!placed) {
+                return null;
+            }
+        }
+        return new IntKeyLookup<>(Strategy.PERFECT_HASH, n, bucketShift, slotShift, seeds, tableKeys, tableValues);
+    }
+
+    private static boolean contains(int[] slots, int count, int slot) {
+        for (int i = 0; i < count; i++) {
+            if (slots[i] == slot) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Murmur3 finalizer: every key bit affects both the bucket (high bits) and the slot.
+     */
+    private static int mix(int key) {
+        int h = key;
+        h ^= h >>> 16;
+        h *= 0x85EBCA6B;
+        h ^= h >>> 13;
+        h *= 0xC2B2AE35;
+        return h ^ (h >>> 16);
+    }
+
+    private static int slot(int hash, int seed, int slotShift) {
+        return ((hash ^ seed) * 0x9E3779B9) >>> slotShift;
+    }
+
+    @SuppressWarnings("unchecked")
+    public V get(int key) {
+        switch (strategy) {
+            case DENSE: {
+                int index = key - min;
+                return index >= 0 && index < values.length ? (V) values[index] : null;
+            }
+            case PERFECT_HASH: {
+                int hash = mix(key);
+                int slot = slot(hash, seeds[hash >>> min], shift);
+                return keys[slot] == key ? (V) values[slot] : null;
+            }
+            default: {
+                int index = Arrays.binarySearch(keys, key);
+                return index >= 0 ? (V) values[index] : null;
+            }
+        }
+    }
+
+    public Strategy strategy() {
+        return strategy;
+    }
+
+    public int size() {
+        return size;
+    }
+}
@@ -0,0 +1,164 @@
+package com.baeldung.inttoenum;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free status tracking for a dense range of order ids {@code [0, capacity)}.
+ *
+ * Each order's state is one byte of a shared array: 0 while the order is unknown, otherwise
+ * {@code 1 + ordinal} of its {@link PizzaStatus}. Transitions are compare-and-set on that byte
+ * through a {@link VarHandle}, so racing threads never block and nothing is boxed; exactly one
+ * of two threads moving the same order from the same state wins.
+ *
+ * Outcomes are reported as a {@link Result} and counted. When an aggregator is attached, it is
+ * updated after each applied change only, so it never counts a lost transition.
+ */
+public final class OrderStateMachine {
+
+    /**
+     * Outcome of a state change request.
+     */
+    public enum Result {
+        /** The order moved to the requested state. */
+        APPLIED,
+        /** The requested move is not allowed by {@link PizzaStatus#canTransitionTo(PizzaStatus)}. */
+        ILLEGAL,
+        /** The order was not in the expected state, typically because another thread moved it first. */
+        LOST,
+        /** No order is tracked under this id. */
+        UNKNOWN
+    }
+
+    private static final VarHandle STATES = MethodHandles.arrayElementVarHandle(byte[].class);
+    private static final PizzaStatus[] STATUSES = PizzaStatus.values();
+    private static final byte NONE = 0;
+
+    private final byte[] states;
+    private final DeliveryTimeAggregator aggregator;
+    private final LongAdder applied = new LongAdder();
+    private final LongAdder illegal = new LongAdder();
+    private final LongAdder lost = new LongAdder();
+
+    /**
+     * @requires capacity >= 0
+     */
+    public OrderStateMachine(int capacity) {
+        this(capacity, null);
+    }
+
+    /**
+     * @requires capacity >= 0
+     * @param aggregator updated on every applied change, may be null
+     */
+    public OrderStateMachine(int capacity, DeliveryTimeAggregator aggregator) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("capacity must not be negative: " + capacity);
+        }
+        this.states = new byte[capacity];
+        this.aggregator = aggregator;
+    }
+
+    public int capacity() {
+        return states.length;
+    }
+
+    /**
+     * Starts tracking {@code orderId} as ORDERED.
+     *
+     * @ensures \result == APPLIED || \result == LOST
+     */
+    public Result open(int orderId) {
+        if (!STATES.compareAndSet(states, orderId, NONE, encode(PizzaStatus.ORDERED))) {
+            return lost();
+        }
+        if (aggregator != null) {
+            aggregator.add(PizzaStatus.ORDERED);
+        }
+        applied.increment();
+        return Result.APPLIED;
+    }
+
+    /**
+     * Moves {@code orderId} from {@code from} to {@code to} if it is still in {@code from}.
+     */
+    public Result transition(int orderId, PizzaStatus from, PizzaStatus to) {
+        if (!from.canTransitionTo(to)) {
+            illegal.increment();
+            return Result.ILLEGAL;
+        }
+        if (STATES.compareAndSet(states, orderId, encode(from), encode(to))) {
+            if (aggregator != null) {
+                aggregator.transition(from, to);
+            }
+            applied.increment();
+            return Result.APPLIED;
+        }
+        return (byte) STATES.getVolatile(states, orderId) == NONE ? Result.UNKNOWN : lost();
+    }
+
+    /**
+     * Moves {@code orderId} one step forward from the state it is observed in.
+     */
+    public Result advance(int orderId) {
+        byte current = (byte) STATES.getVolatile(states, orderId);
+        if (current == NONE) {
+            return Result.UNKNOWN;
+        }
+        PizzaStatus from = STATUSES[current - 1];
+        if (from.ordinal() + 1 == STATUSES.length) {
+            illegal.increment();
+            return Result.ILLEGAL;
+        }
+        return transition(orderId, from, STATUSES[from.ordinal() + 1]);
+    }
+
+    /**
+     * Stops tracking a DELIVERED order, freeing its id.
+     */
+    public Result close(int orderId) {
+        if (STATES.compareAndSet(states, orderId, encode(PizzaStatus.DELIVERED), NONE)) {
+            if (aggregator != null) {
+                aggregator.remove(PizzaStatus.DELIVERED);
+            }
+            applied.increment();
+            return Result.APPLIED;
+        }
+        byte current = (byte) STATES.getVolatile(states, orderId);
+        if (current == NONE) {
+            return Result.UNKNOWN;
+        }
+        illegal.increment();
+        return Result.ILLEGAL;
+    }
+
+    /**
+     * @ensures \result == null <==> no order is tracked under orderId
+     */
+    public PizzaStatus status(int orderId) {
+        byte current = (byte) STATES.getVolatile(states, orderId);
+        return current == NONE ? null : STATUSES[current - 1];
+    }
+
+    public long appliedCount() {
+        return applied.sum();
+    }
+
+    public long illegalCount() {
+        return illegal.sum();
+    }
+
+    public long lostCount() {
+        return lost.sum();
+    }
+
+    private Result lost() {
+        lost.increment();
+        return Result.LOST;
+    }
+
+    private static byte encode(PizzaStatus status) {
+        return (byte) (status.ordinal() + 1);
+    }
+}
@@ -1,8 +1,5 @@
 package com.baeldung.inttoenum;
 
-import java.util.HashMap;
-import java.util.Map;
-
 /**
  * Pizza Status enum with integer mapping.
  * Demonstrates integer to enum conversion techniques.
@@ -14,7 +11,7 @@ public enum PizzaStatus {
     READY(2),
     DELIVERED(0);
 
-    private int timeToDelivery;
+    private final int timeToDelivery;
 
     /**
      * @requires timeToDelivery >= 0
@@ -31,17 +28,23 @@ public enum PizzaStatus {
         return timeToDelivery;
     }
 
-    private static Map<Integer, PizzaStatus> timeToDeliveryToEnumValuesMapping = new HashMap<>();
-
-    static {
-        for (PizzaStatus pizzaStatus : PizzaStatus.values()) {
-            timeToDeliveryToEnumValuesMapping.put(
-                pizzaStatus.getTimeToDelivery(),
-                pizzaStatus
-            );
-        }
+    /**
+     * Orders move forward one step at a time: ORDERED to READY, READY to DELIVERED.
+     *
+     * @requires next != null
+     * @ensures \result <==> next.ordinal() == ordinal() + 1
+     */
+    public boolean canTransitionTo(PizzaStatus next) {
+        return next.ordinal() == ordinal() + 1;
     }
 
+    /**
+     * Built once from {@code values()}; fails class initialization if two statuses share a
+     * delivery time.
+     */
+    private static final IntEnumCodec<PizzaStatus> BY_TIME_TO_DELIVERY =
+        IntEnumCodec.of(PizzaStatus.class, PizzaStatus::getTimeToDelivery);
+
     /**
      * Converts an integer to PizzaStatus enum.
      * 
@@ -49,6 +52,6 @@ public enum PizzaStatus {
      * @ensures \result != null iff timeToDelivery is a valid delivery time value
      */
     public static PizzaStatus castIntToEnum(int timeToDelivery) {
-        return timeToDeliveryToEnumValuesMapping.get(timeToDelivery);
+        return BY_TIME_TO_DELIVERY.decode(timeToDelivery);
     }
 }
@@ -0,0 +1,260 @@
+package com.baeldung.inttoenum;
+
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Columnar binary codec for sequences of {@link PizzaStatus}.
+ *
+ * Two formats are supported; neither stores the number of statuses, which the caller keeps:
+ * <ul>
+ *   <li>packed: 2 bits per status (its ordinal), four statuses per byte, the first one in the
+ *   low bits. Code {@code 3} is unused and rejected on decoding.</li>
+ *   <li>run-length: one header byte per run, holding the ordinal in bits 7-6, the low 5 bits of
+ *   {@code runLength - 1} in bits 4-0 and, in bit 5, whether the remaining bits follow as an
+ *   unsigned LEB128 varint.</li>
+ * </ul>
+ * Both read and write heap and direct buffers in place, from their position, and advance it
+ * like the relative {@code get}/{@code put} methods. The formats depend on the declaration order
+ * of the constants: new statuses must be appended.
+ */
+public final class PizzaStatusCodec {
+
+    private static final PizzaStatus[] STATUSES = PizzaStatus.values();
+
+    /**
+     * Ordinals of the four 2-bit fields of every byte value; -1 marks the unused code 3.
+     */
+    private static final byte[] DECODE = new byte[256 * 4];
+
+    /**
+     * Byte values holding the unused code 3 in at least one field.
+     */
+    private static final boolean[] INVALID = new boolean[256];
+
+    /**
+     * Shift of the last run length byte: a run of at most 2^31 - 1 statuses has 5 bits in the
+     * header and at most 4 varint bytes of 7 bits.
+     */
+    private static final int MAX_VARINT_SHIFT = 5 + 3 * 7;
+
+    static {
+        if (STATUSES.length > 3) {
+            throw new ExceptionInInitializerError("2-bit codes hold at most 3 statuses: " + STATUSES.length);
+        }
+        for (int b = 0; b < 256; b++) {
+            for (int field = 0; field < 4; field++) {
+                int code = (b >>> (2 * field)) & 3;
+                DECODE[b * 4 + field] = (byte) (code < STATUSES.length ? code : -1);
+                INVALID[b] |= code >= STATUSES.length;
+            }
+        }
+    }
+
+    private PizzaStatusCodec() {
+    }
+
+    /**
+     * @ensures \result == bytes written by pack for count statuses
+     */
+    public static int packedSize(int count) {
+        return (count + 3) >>> 2;
+    }
+
+    /**
+     * Packs {@code statuses[offset, offset + length)} at the buffer's position.
+     *
+     * @requires no status in the range is null
+     * @signals (BufferOverflowException) target.remaining() < packedSize(length)
+     */
+    public static void pack(PizzaStatus[] statuses, int offset, int length, ByteBuffer target) {
+        int size = packedSize(length);
+        if (target.remaining() < size) {
+            throw new BufferOverflowException();
+        }
+        int position = target.position();
+        int end = offset + length;
+        int i = offset;
+        if (target.hasArray()) {
+            byte[] array = target.array();
+            int index = target.arrayOffset() + position;
+            for (; i + 4 <= end; i += 4) {
+                array[index++] = packFour(statuses, i);
+            }
+            if (i < end) {
+                array[index] = packTail(statuses, i, end);
+            }
+        } else {
+            int index = position;
+            for (; i + 4 <= end; i += 4) {
+                target.put(index++, packFour(statuses, i));
+            }
+            if (i < end) {
+                target.put(index, packTail(statuses, i, end));
+            }
+        }
+        target.position(position + size);
+    }
+
+    /**
+     * Packs statuses as they come, without materializing the sequence.
+     *
+     * @ensures \result == number of statuses written
+     * @signals (BufferOverflowException) the buffer fills up before the stream ends
+     */
+    public static long pack(Stream<PizzaStatus> statuses, ByteBuffer target) {
+        Iterator<PizzaStatus> iterator = statuses.iterator();
+        long count = 0;
+        int current = 0;
+        while (iterator.hasNext()) {
+            current |= iterator.next().ordinal() << (2 * (int) (count & 3));
+            if ((++count & 3) == 0) {
+                target.put((byte) current);
+                current = 0;
+            }
+        }
+        if ((count & 3) != 0) {
+            target.put((byte) current);
+        }
+        return count;
+    }
+
+    /**
+     * Unpacks {@code count} statuses from the buffer's position into
+     * {@code target[offset, offset + count)}.
+     *
+     * @signals (BufferUnderflowException) source.remaining() < packedSize(count)
+     * @signals (IllegalArgumentException) a field holds the unused code 3
+     */
+    public static void unpack(ByteBuffer source, int count, PizzaStatus[] target, int offset) {
+        int size = packedSize(count);
+        if (source.remaining() < size) {
+            throw new BufferUnderflowException();
+        }
+        int position = source.position();
+        int base = source.hasArray() ? source.arrayOffset() + position : position;
+        byte[] array = source.hasArray() ? source.array() : null;
+        int full = count >>> 2;
+        for (int k = 0; k < full; k++) {
+            int b = (array != null ? array[base + k] : source.get(base + k)) & 0xFF;
+            if (INVALID[b]) {
+                throw invalidByte(position + k, b);
+            }
+            int out = offset + 4 * k;
+            int row = b * 4;
+            target[out] = STATUSES[DECODE[row]];
+            target[out + 1] = STATUSES[DECODE[row + 1]];
+            target[out + 2] = STATUSES[DECODE[row + 2]];
+            target[out + 3] = STATUSES[DECODE[row + 3]];
+        }
+        for (int i = 4 * full; i < count; i++) {
+            int b = (array != null ? array[base + full] : source.get(base + full)) & 0xFF;
+            int code = DECODE[b * 4 + (i & 3)];
+            if (code < 0) {
+                throw invalidByte(position + full, b);
+            }
+            target[offset + i] = STATUSES[code];
+        }
+        source.position(position + size);
+    }
+
+    /**
+     * Writes {@code statuses[offset, offset + length)} as runs at the buffer's position.
+     *
+     * @requires no status in the range is null
+     * @ensures \result == number of bytes written
+     * @signals (BufferOverflowException) the buffer fills up
+     */
+    public static int encodeRuns(PizzaStatus[] statuses, int offset, int length, ByteBuffer target) {
+        int start = target.position();
+        int end = offset + length;
+        int i = offset;
+        while (i < end) {
+            PizzaStatus status = statuses[i];
+            int runEnd = i + 1;
+            while (runEnd < end && statuses[runEnd] == status) {
+                runEnd++;
+            }
+            int rest = runEnd - i - 1;
+            int header = status.ordinal() << 6 | (rest & 0x1F);
+            rest >>>= 5;
+            if (rest == 0) {
+                target.put((byte) header);
+            } else {
+                target.put((byte) (header | 0x20));
+                while (rest >= 0x80) {
+                    target.put((byte) (rest | 0x80));
+                    rest >>>= 7;
+                }
+                target.put((byte) rest);
+            }
+            i = runEnd;
+        }
+        return target.position() - start;
+    }
+
+    /**
+     * Decodes runs from the buffer's position until {@code count} statuses are written to
+     * {@code target[offset, offset + count)}.
+     *
+     * @signals (BufferUnderflowException) the runs end before count statuses
+     * @signals (IllegalArgumentException) a run uses the unused code 3, overflows count, or has
+     *          a length longer than the 4 bytes any int count needs
+     */
+    public static void decodeRuns(ByteBuffer source, int count, PizzaStatus[] target, int offset) {
+        int written = 0;
+        while (written < count) {
+            int header = source.get() & 0xFF;
+            int code = header >>> 6;
+            if (code >= STATUSES.length) {
+                throw invalidByte(source.position() - 1, header);
+            }
+            long run = header & 0x1F;
+            if ((header & 0x20) != 0) {
+                int shift = 5;
+                int b;
+                do {
+                    b = source.get() & 0xFF;
+                    run |= (long) (b & 0x7F) << shift;
+                    if ((b & 0x80) != 0 && shift == MAX_VARINT_SHIFT) {
+                        throw new IllegalArgumentException("Run length longer than 4 bytes at position "
+                            + (source.position() - 1));
+                    }
+                    shift += 7;
+                } while ((b & 0x80) != 0);
+            }
+            run++;
+            if (run > count - written) {
+                throw new IllegalArgumentException("Run of " + run + " statuses exceeds the " + (count - written)
+                    + " remaining at position " + source.position());
+            }
+            int from = offset + written;
+            Arrays.fill(target, from, from + (int) run, STATUSES[code]);
+            written += (int) run;
+        }
+    }
+
+    private static byte packFour(PizzaStatus[] statuses, int i) {
+        return (byte) (statuses[i].ordinal()
+            | statuses[i + 1].ordinal() << 2
+            | statuses[i + 2].ordinal() << 4
+            | statuses[i + 3].ordinal() << 6);
+    }
+
+    private static byte packTail(PizzaStatus[] statuses, int from, int to) {
+        int b = 0;
+        for (int i = from; i < to; i++) {
+            b |= statuses[i].ordinal() << (2 * (i - from));
+        }
+        return (byte) b;
+    }
+
+    private static IllegalArgumentException invalidByte(int position, int value) {
+        return new IllegalArgumentException("Invalid status code in byte 0x" + Integer.toHexString(value)
+            + " at position " + position);
+    }
+}
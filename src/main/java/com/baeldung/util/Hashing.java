@@ -0,0 +1,20 @@
+package com.baeldung.util;
+
+/**
+ * Hash helpers shared by the hash tables of this project.
+ */
+public final class Hashing {
+
+    private Hashing() {
+    }
+
+    /**
+     * Mixes the bits of {@code hash} (Fibonacci multiplication, then the high half folded into the
+     * low one), since the String hash codes of similar names differ mostly in the low bits while
+     * tables pick slots and segments from either end.
+     */
+    public static int spread(int hash) {
+        int h = hash * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
@@ -0,0 +1,44 @@
+package com.baeldung.validation;
+
+/**
+ * Optional bulk kernel for the ASCII part of UTF-8 names.
+ *
+ * The vector implementation lives in {@code VectorAsciiNameKernel} and is only loaded
+ * reflectively, so that this package keeps working when the {@code jdk.incubator.vector}
+ * module is not enabled ({@code --add-modules jdk.incubator.vector}).
+ */
+interface AsciiNameKernel {
+
+    /**
+     * System property disabling the vector fast path when set to {@code false}.
+     */
+    String SIMD_PROPERTY = "com.baeldung.validation.simd";
+
+    /**
+     * Returns the index of the first byte of {@code bytes[from, to)} that is not an ASCII letter
+     * or an ASCII whitespace matched by {@code \s}, or {@code to} when there is none.
+     *
+     * @requires 0 <= from && from <= to && to <= bytes.length
+     * @ensures from <= \result && \result <= to
+     */
+    int asciiNamePrefix(byte[] bytes, int from, int to);
+
+    /**
+     * @ensures \result == null when SIMD is disabled or the incubator module is unavailable
+     */
+    static AsciiNameKernel load() {
+        if (!Boolean.parseBoolean(System.getProperty(SIMD_PROPERTY, "true"))) {
+            return null;
+        }
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) {
+            return null;
+        }
+        try {
+            return (AsciiNameKernel) Class.forName("com.baeldung.validation.VectorAsciiNameKernel")
+                .getDeclaredConstructor()
+                .newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.baeldung.validation;
+
+import java.util.BitSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.stream.Stream;
+
+/**
+ * Bulk entry points for the name rule of {@link NameScanner}.
+ * Results are either a {@link BitSet} where bit {@code i} is set when the
+ * {@code i}-th name is valid, or the number of valid names.
+ *
+ * The scanner is stateless, so a single scan loop serves every element:
+ * nothing is allocated per name, only the result bitmap per call.
+ */
+public final class BatchNameValidator {
+
+    private BatchNameValidator() {
+    }
+
+    /**
+     * @requires names != null
+     * @ensures \result.get(i) == NameScanner.isValidName(names[i]) for all i
+     */
+    public static BitSet validate(CharSequence[] names) {
+        long[] words = new long[wordCount(names.length)];
+        for (int i = 0; i < names.length; i++) {
+            if (NameScanner.isValidName(names[i])) {
+                words[i >>> 6] |= 1L << i;
+            }
+        }
+        return BitSet.valueOf(words);
+    }
+
+    /**
+     * @requires names != null
+     * @ensures \result.get(i) == NameScanner.isValidName(names.get(i)) for all i
+     */
+    public static BitSet validate(List<? extends CharSequence> names) {
+        if (!(names instanceof RandomAccess)) {
+            return validate(names.iterator(), names.size());
+        }
+        int size = names.size();
+        long[] words = new long[wordCount(size)];
+        for (int i = 0; i < size; i++) {
+            if (NameScanner.isValidName(names.get(i))) {
+                words[i >>> 6] |= 1L << i;
+            }
+        }
+        return BitSet.valueOf(words);
+    }
+
+    /**
+     * Consumes the stream in encounter order.
+     *
+     * @requires names != null
+     * @ensures \result.get(i) is set iff the i-th element of the stream is a valid name
+     */
+    public static BitSet validate(Stream<? extends CharSequence> names) {
+        return validate(names.sequential().iterator(), 0);
+    }
+
+    /**
+     * @requires names != null
+     * @ensures \result == number of i such that NameScanner.isValidName(names[i])
+     */
+    public static int countValid(CharSequence[] names) {
+        int count = 0;
+        for (CharSequence name : names) {
+            if (NameScanner.isValidName(name)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * @requires names != null
+     * @ensures \result == number of valid names in the list
+     */
+    public static int countValid(List<? extends CharSequence> names) {
+        int count = 0;
+        if (names instanceof RandomAccess) {
+            for (int i = 0, size = names.size(); i < size; i++) {
+                if (NameScanner.isValidName(names.get(i))) {
+                    count++;
+                }
+            }
+        } else {
+            for (CharSequence name : names) {
+                if (NameScanner.isValidName(name)) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Parallel streams are honoured: each worker runs the same stateless scanner.
+     *
+     * @requires names != null
+     * @ensures \result == number of valid names in the stream
+     */
+    public static long countValid(Stream<? extends CharSequence> names) {
+        return names.filter(NameScanner::isValidName).count();
+    }
+
+    private static BitSet validate(Iterator<? extends CharSequence> names, int expectedSize) {
+        BitSet result = new BitSet(expectedSize);
+        for (int i = 0; names.hasNext(); i++) {
+            if (NameScanner.isValidName(names.next())) {
+                result.set(i);
+            }
+        }
+        return result;
+    }
+
+    private static int wordCount(int bits) {
+        return (bits + 63) >>> 6;
+    }
+}
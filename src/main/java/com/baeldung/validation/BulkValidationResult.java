@@ -0,0 +1,63 @@
+package com.baeldung.validation;
+
+import java.util.BitSet;
+
+/**
+ * Outcome of a bulk validation: a per-index bitmap plus aggregate counts.
+ *
+ * @invariant validCount() + invalidCount() == size()
+ */
+public final class BulkValidationResult {
+
+    private final long[] words;
+    private final int size;
+    private final int validCount;
+
+    /**
+     * @requires words != null && words.length * 64 >= size
+     */
+    BulkValidationResult(long[] words, int size) {
+        this.words = words;
+        this.size = size;
+        int count = 0;
+        for (long word : words) {
+            count += Long.bitCount(word);
+        }
+        this.validCount = count;
+    }
+
+    /**
+     * @ensures \result == true iff the name at index is valid
+     */
+    public boolean isValid(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return (words[index >>> 6] & (1L << index)) != 0;
+    }
+
+    /**
+     * @ensures \result is a fresh copy; bit i is set iff the name at index i is valid
+     */
+    public BitSet toBitSet() {
+        return BitSet.valueOf(words);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int validCount() {
+        return validCount;
+    }
+
+    public int invalidCount() {
+        return size - validCount;
+    }
+
+    @Override
+    public String toString() {
+        return "BulkValidationResult{" + "size=" + size + ", valid=" + validCount
+            + ", invalid=" + invalidCount() + '}';
+    }
+}
@@ -0,0 +1,49 @@
+package com.baeldung.validation;
+
+/**
+ * Snapshot of the counters of a {@link CachingValidator}.
+ *
+ * @invariant requestCount() == hitCount() + missCount()
+ */
+public final class CacheStats {
+
+    private final long hitCount;
+    private final long missCount;
+    private final long evictionCount;
+
+    CacheStats(long hitCount, long missCount, long evictionCount) {
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.evictionCount = evictionCount;
+    }
+
+    public long hitCount() {
+        return hitCount;
+    }
+
+    public long missCount() {
+        return missCount;
+    }
+
+    public long evictionCount() {
+        return evictionCount;
+    }
+
+    public long requestCount() {
+        return hitCount + missCount;
+    }
+
+    /**
+     * @ensures requestCount() == 0 ==> \result == 0.0
+     */
+    public double hitRate() {
+        long requests = requestCount();
+        return requests == 0 ? 0.0 : (double) hitCount / requests;
+    }
+
+    @Override
+    public String toString() {
+        return "CacheStats{" + "hitCount=" + hitCount + ", missCount=" + missCount
+            + ", evictionCount=" + evictionCount + '}';
+    }
+}
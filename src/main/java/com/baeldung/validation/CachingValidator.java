@@ -0,0 +1,350 @@
+package com.baeldung.validation;
+
+import java.util.HashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.baeldung.util.Hashing;
+
+/**
+ * Bounded memoizing {@link Validator} for skewed traffic, where a small set of names
+ * accounts for most calls.
+ *
+ * Entries are spread over independently locked segments, so threads only contend when they hit
+ * the same segment. Each segment follows W-TinyLFU: new entries land in a small LRU window
+ * (1% of the segment), and an entry leaving the window only enters the main LRU region if a
+ * count-min sketch of recent accesses rates it more frequent than the main region's eviction
+ * victim. One-off names therefore cannot flush the popular ones. The sketch halves its counters
+ * periodically, so popularity fades with time.
+ *
+ * Only {@link String} inputs are cached, since other character sequences may change after the
+ * call; they go straight to the delegate, as does {@code null}, and are not counted.
+ * The delegate must be a pure function of the input.
+ */
+public final class CachingValidator implements Validator {
+
+    /**
+     * Estimated bytes retained per entry besides the characters of the key: the String and its
+     * array headers, the HashMap node and the cache node.
+     */
+    static final int ENTRY_OVERHEAD_BYTES = 112;
+
+    private static final int MAX_SEGMENTS = 64;
+    private static final int MIN_ENTRIES_PER_SEGMENT = 256;
+
+    private final Validator delegate;
+    private final Segment[] segments;
+    private final int segmentMask;
+    private final boolean weighByMemory;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    CachingValidator(Validator delegate, long capacity, boolean weighByMemory, int segmentCount) {
+        if (delegate == null) {
+            throw new IllegalArgumentException("delegate must not be null");
+        }
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        if (Integer.bitCount(segmentCount) != 1) {
+            throw new IllegalArgumentException("segmentCount must be a power of two: " + segmentCount);
+        }
+        this.delegate = delegate;
+        this.weighByMemory = weighByMemory;
+        this.segments = new Segment[segmentCount];
+        this.segmentMask = segmentCount - 1;
+        long segmentCapacity = (capacity + segmentCount - 1) / segmentCount;
+        long segmentEntries = weighByMemory ? segmentCapacity / ENTRY_OVERHEAD_BYTES : segmentCapacity;
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i] = new Segment(segmentCapacity, segmentEntries);
+        }
+    }
+
+    /**
+     * Caches up to {@code maximumEntries} results.
+     *
+     * @requires maximumEntries > 0
+     */
+    public static CachingValidator maximumEntries(Validator delegate, long maximumEntries) {
+        return new CachingValidator(delegate, maximumEntries, false, segmentCount(maximumEntries));
+    }
+
+    /**
+     * Caches results while their estimated footprint, keys included, stays under
+     * {@code maximumBytes}.
+     *
+     * @requires maximumBytes > 0
+     */
+    public static CachingValidator maximumBytes(Validator delegate, long maximumBytes) {
+        return new CachingValidator(delegate, maximumBytes, true, segmentCount(maximumBytes / ENTRY_OVERHEAD_BYTES));
+    }
+
+    /**
+     * One segment per 256 expected entries, up to 4 per core, rounded down to a power of two.
+     */
+    private static int segmentCount(long expectedEntries) {
+        long wanted = Math.min(expectedEntries / MIN_ENTRIES_PER_SEGMENT,
+            Math.min(MAX_SEGMENTS, 4L * Runtime.getRuntime().availableProcessors()));
+        return wanted <= 1 ? 1 : Integer.highestOneBit((int) wanted);
+    }
+
+    @Override
+    public boolean isValid(CharSequence input) {
+        if (!(input instanceof String)) {
+            return delegate.isValid(input);
+        }
+        String key = (String) input;
+        int hash = Hashing.spread(key.hashCode());
+        Segment segment = segments[hash & segmentMask];
+        Boolean cached = segment.get(key, hash);
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+        misses.increment();
+        boolean valid = delegate.isValid(key);
+        int evicted = segment.put(key, hash, valid, weighByMemory ? weigh(key) : 1);
+        if (evicted != 0) {
+            evictions.add(evicted);
+        }
+        return valid;
+    }
+
+    /**
+     * @ensures \result.requestCount() == number of String inputs seen so far
+     */
+    public CacheStats stats() {
+        return new CacheStats(hits.sum(), misses.sum(), evictions.sum());
+    }
+
+    /**
+     * Number of cached results; exact when no other thread uses the cache.
+     */
+    public long estimatedSize() {
+        long size = 0;
+        for (Segment segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    static int weigh(String key) {
+        return ENTRY_OVERHEAD_BYTES + 2 * key.length();
+    }
+
+    private static final class Node {
+
+        final String key;
+        final int hash;
+        final boolean valid;
+        final int weight;
+        boolean inWindow;
+        Node prev;
+        Node next;
+
+        Node(String key, int hash, boolean valid, int weight) {
+            this.key = key;
+            this.hash = hash;
+            this.valid = valid;
+            this.weight = weight;
+        }
+
+        /** Sentinel of a circular list. */
+        Node() {
+            this(null, 0, false, 0);
+            prev = this;
+            next = this;
+        }
+    }
+
+    /**
+     * One lock-protected shard: a hash map plus two intrusive LRU lists (head = most recent).
+     */
+    private static final class Segment {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final HashMap<String, Node> map = new HashMap<>();
+        private final Node window = new Node();
+        private final Node main = new Node();
+        private final FrequencySketch sketch;
+        private final long windowCapacity;
+        private final long mainCapacity;
+        private long windowWeight;
+        private long mainWeight;
+
+        Segment(long capacity, long expectedEntries) {
+            this.windowCapacity = Math.max(1, capacity / 100);
+            this.mainCapacity = Math.max(0, capacity - windowCapacity);
+            this.sketch = new FrequencySketch(expectedEntries);
+        }
+
+        Boolean get(String key, int hash) {
+            lock.lock();
+            try {
+                sketch.increment(hash);
+                Node node = map.get(key);
+                if (node == null) {
+                    return null;
+                }
+                unlink(node);
+                linkFirst(node.inWindow ? window : main, node);
+                return node.valid;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * @ensures \result == number of entries evicted to make room
+         */
+        int put(String key, int hash, boolean valid, int weight) {
+            lock.lock();
+            try {
+                if (map.containsKey(key)) {
+                    return 0;
+                }
+                Node node = new Node(key, hash, valid, weight);
+                map.put(key, node);
+                node.inWindow = true;
+                linkFirst(window, node);
+                windowWeight += weight;
+                int evicted = 0;
+                while (windowWeight > windowCapacity && window.prev != window) {
+                    Node candidate = window.prev;
+                    unlink(candidate);
+                    windowWeight -= candidate.weight;
+                    evicted += admit(candidate);
+                }
+                return evicted;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * Moves an entry leaving the window into the main region if it is more frequent than
+         * every entry it would displace, otherwise drops it. The victims are all compared before
+         * any is removed, so a rejected candidate leaves the main region untouched.
+         */
+        private int admit(Node candidate) {
+            if (candidate.weight > mainCapacity) {
+                map.remove(candidate.key);
+                return 1;
+            }
+            int candidateFrequency = sketch.frequency(candidate.hash);
+            long freed = 0;
+            Node last = main;
+            while (mainWeight - freed + candidate.weight > mainCapacity) {
+                last = last.prev;
+                if (last == main || sketch.frequency(last.hash) >= candidateFrequency) {
+                    map.remove(candidate.key);
+                    return 1;
+                }
+                freed += last.weight;
+            }
+            int evicted = 0;
+            while (last != main) {
+                Node victim = main.prev;
+                unlink(victim);
+                mainWeight -= victim.weight;
+                map.remove(victim.key);
+                evicted++;
+                if (victim == last) {
+                    break;
+                }
+            }
+            candidate.inWindow = false;
+            linkFirst(main, candidate);
+            mainWeight += candidate.weight;
+            return evicted;
+        }
+
+        int size() {
+            lock.lock();
+            try {
+                return map.size();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private static void linkFirst(Node sentinel, Node node) {
+            node.prev = sentinel;
+            node.next = sentinel.next;
+            sentinel.next.prev = node;
+            sentinel.next = node;
+        }
+
+        private static void unlink(Node node) {
+            node.prev.next = node.next;
+            node.next.prev = node.prev;
+        }
+    }
+
+    /**
+     * Count-min sketch with four rows of 4-bit counters packed in longs. Once the number of
+     * increments reaches ten times the expected entry count, every counter is halved so that old popularity
+     * decays. Accessed under the owning segment's lock.
+     */
+    static final class FrequencySketch {
+
+        private static final int ROWS = 4;
+        private static final long[] SEEDS = {0x97CB3127L, 0xB492B66FL, 0x9AE16A3BL, 0xC3A5C85CL};
+        private static final long HALF_MASK = 0x7777777777777777L;
+
+        private final long[] table;
+        private final int rowMask;
+        private final int sampleSize;
+        private int additions;
+
+        FrequencySketch(long expectedEntries) {
+            int entries = (int) Math.min(1 << 24, Math.max(16, expectedEntries));
+            // One long, i.e. 16 counters, per expected entry, split across the rows.
+            this.table = new long[Integer.highestOneBit(entries - 1) << 1];
+            this.rowMask = table.length / ROWS - 1;
+            this.sampleSize = 10 * entries;
+        }
+
+        void increment(int hash) {
+            boolean added = false;
+            for (int row = 0; row < ROWS; row++) {
+                int slot = slot(hash, row);
+                int index = row * (rowMask + 1) + (slot >>> 4);
+                int shift = (slot & 15) << 2;
+                if (((table[index] >>> shift) & 0xF) != 0xF) {
+                    table[index] += 1L << shift;
+                    added = true;
+                }
+            }
+            if (added && ++additions >= sampleSize) {
+                reset();
+            }
+        }
+
+        int frequency(int hash) {
+            int min = 0xF;
+            for (int row = 0; row < ROWS; row++) {
+                int slot = slot(hash, row);
+                int index = row * (rowMask + 1) + (slot >>> 4);
+                int shift = (slot & 15) << 2;
+                min = Math.min(min, (int) ((table[index] >>> shift) & 0xF));
+            }
+            return min;
+        }
+
+        private int slot(int hash, int row) {
+            long h = (hash + SEEDS[row]) * SEEDS[row];
+            h += h >>> 32;
+            return (int) h & ((rowMask + 1) * 16 - 1);
+        }
+
+        private void reset() {
+            for (int i = 0; i < table.length; i++) {
+                table[i] = (table[i] >>> 1) & HALF_MASK;
+            }
+            additions >>>= 1;
+        }
+    }
+}
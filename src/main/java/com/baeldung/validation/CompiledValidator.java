@@ -0,0 +1,86 @@
+package com.baeldung.validation;
+
+import java.util.Arrays;
+import java.util.function.IntPredicate;
+
+/**
+ * Single-pass {@link Validator} produced by {@link ValidatorBuilder}.
+ *
+ * @invariant bmpAllowed has one bit per BMP character, surrogates excluded
+ */
+final class CompiledValidator implements Validator {
+
+    private final boolean nameCharset;
+    private final int maxLength;
+    private final long[] bmpAllowed;
+    private final int[] sortedForbidden;
+    private final IntPredicate[] rules;
+
+    CompiledValidator(boolean nameCharset, int maxLength, long[] bmpAllowed, int[] sortedForbidden,
+                      IntPredicate[] rules) {
+        this.nameCharset = nameCharset;
+        this.maxLength = maxLength;
+        this.bmpAllowed = bmpAllowed;
+        this.sortedForbidden = sortedForbidden;
+        this.rules = rules;
+    }
+
+    @Override
+    public boolean isValid(CharSequence input) {
+        if (input == null) {
+            return false;
+        }
+        int end = input.length();
+        if (end > maxLength) {
+            return false;
+        }
+        int start = 0;
+        if (nameCharset) {
+            while (start < end && input.charAt(start) <= ' ') {
+                start++;
+            }
+            while (end > start && input.charAt(end - 1) <= ' ') {
+                end--;
+            }
+            if (start == end) {
+                return false;
+            }
+        }
+        for (int i = start; i < end; i++) {
+            char c = input.charAt(i);
+            if ((bmpAllowed[c >>> 6] & (1L << c)) != 0) {
+                continue;
+            }
+            if (!Character.isSurrogate(c)) {
+                return false;
+            }
+            int codePoint = c;
+            if (Character.isHighSurrogate(c) && i + 1 < end && Character.isLowSurrogate(input.charAt(i + 1))) {
+                codePoint = Character.toCodePoint(c, input.charAt(++i));
+            }
+            if (!allows(codePoint, nameCharset, sortedForbidden, rules)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Evaluates every character rule for one code point; used to fill the BMP bitmap
+     * and, at validation time, for code points outside of it.
+     */
+    static boolean allows(int codePoint, boolean nameCharset, int[] sortedForbidden, IntPredicate[] rules) {
+        if (nameCharset && !Character.isLetter(codePoint) && !NameScanner.isRegexWhitespace(codePoint)) {
+            return false;
+        }
+        if (Arrays.binarySearch(sortedForbidden, codePoint) >= 0) {
+            return false;
+        }
+        for (IntPredicate rule : rules) {
+            if (!rule.test(codePoint)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,53 @@
+package com.baeldung.validation;
+
+/**
+ * Totals of a file validation run.
+ *
+ * @invariant 0 <= invalidLines() && invalidLines() <= lines()
+ */
+public final class FileValidationSummary {
+
+    private final long lines;
+    private final long invalidLines;
+    private final long bytes;
+    private final long elapsedNanos;
+
+    FileValidationSummary(long lines, long invalidLines, long bytes, long elapsedNanos) {
+        this.lines = lines;
+        this.invalidLines = invalidLines;
+        this.bytes = bytes;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public long lines() {
+        return lines;
+    }
+
+    public long invalidLines() {
+        return invalidLines;
+    }
+
+    public long bytes() {
+        return bytes;
+    }
+
+    public long elapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * @ensures \result == bytes / 2^20 per second of elapsed time
+     */
+    public double megabytesPerSecond() {
+        if (elapsedNanos == 0) {
+            return 0.0;
+        }
+        return (bytes / (1024.0 * 1024.0)) / (elapsedNanos / 1_000_000_000.0);
+    }
+
+    @Override
+    public String toString() {
+        return "FileValidationSummary{" + "lines=" + lines + ", invalidLines=" + invalidLines
+            + ", bytes=" + bytes + ", elapsedNanos=" + elapsedNanos + '}';
+    }
+}
@@ -0,0 +1,64 @@
+package com.baeldung.validation;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.function.LongConsumer;
+
+/**
+ * Compact report of invalid line numbers: one entry per line of output, consecutive
+ * numbers being collapsed into a range ({@code 12}, {@code 40-57}, ...).
+ * Line numbers must be supplied in increasing order; {@link #flush()} writes the pending range.
+ */
+public final class InvalidLineRangeWriter implements LongConsumer {
+
+    private final Writer out;
+    private long rangeStart = -1;
+    private long rangeEnd = -1;
+
+    /**
+     * @requires out != null
+     */
+    public InvalidLineRangeWriter(Writer out) {
+        this.out = out;
+    }
+
+    /**
+     * @requires lineNumber > last accepted line number
+     */
+    @Override
+    public void accept(long lineNumber) {
+        if (rangeStart >= 0 && lineNumber == rangeEnd + 1) {
+            rangeEnd = lineNumber;
+            return;
+        }
+        writePendingRange();
+        rangeStart = lineNumber;
+        rangeEnd = lineNumber;
+    }
+
+    /**
+     * Writes the pending range and flushes the underlying writer.
+     */
+    public void flush() throws IOException {
+        writePendingRange();
+        rangeStart = -1;
+        out.flush();
+    }
+
+    private void writePendingRange() {
+        if (rangeStart < 0) {
+            return;
+        }
+        try {
+            out.write(Long.toString(rangeStart));
+            if (rangeEnd != rangeStart) {
+                out.write('-');
+                out.write(Long.toString(rangeEnd));
+            }
+            out.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.baeldung.validation;
+
+/**
+ * Stackless {@link IllegalArgumentException} thrown by
+ * {@link LengthLimits#lengthOrThrowStackless(CharSequence, int)}.
+ * Callers catching {@code IllegalArgumentException} keep working unchanged.
+ */
+public final class LengthLimitExceededException extends IllegalArgumentException {
+
+    private static final long serialVersionUID = 1L;
+
+    public LengthLimitExceededException(String message) {
+        super(message);
+    }
+
+    /**
+     * Skips the stack walk, which dominates the cost of constructing the exception.
+     */
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
@@ -0,0 +1,173 @@
+package com.baeldung.validation;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Length checks behind {@code StringValidator.calculerLongueur}, with three ways of reporting
+ * an input over the limit: an {@link IllegalArgumentException} with a stack trace (historical
+ * contract), a status code, or a stackless {@link LengthLimitExceededException}.
+ */
+public final class LengthLimits {
+
+    /**
+     * Status returned by {@link #lengthOrStatus(CharSequence, int)} for inputs over the limit.
+     */
+    public static final int OVER_LIMIT = -1;
+
+    static final String OVER_LIMIT_MESSAGE = "La chaîne dépasse la limite de taille maximale.";
+
+    private static final Pattern GRAPHEME = Pattern.compile("\\X");
+
+    private LengthLimits() {
+    }
+
+    /**
+     * @ensures str == null ==> \result == 0
+     * @ensures str != null && str.length() <= limit ==> \result == str.length()
+     * @signals (IllegalArgumentException) str != null && str.length() > limit
+     */
+    public static int lengthOrThrow(CharSequence str, int limit) {
+        if (str == null) {
+            return 0;
+        }
+        int length = str.length();
+        if (length > limit) {
+            throw new IllegalArgumentException(OVER_LIMIT_MESSAGE);
+        }
+        return length;
+    }
+
+    /**
+     * Non-throwing variant: nothing is allocated, over-limit inputs give {@link #OVER_LIMIT}.
+     *
+     * @ensures str == null ==> \result == 0
+     * @ensures str != null && str.length() <= limit ==> \result == str.length()
+     * @ensures str != null && str.length() > limit ==> \result == OVER_LIMIT
+     */
+    public static int lengthOrStatus(CharSequence str, int limit) {
+        if (str == null) {
+            return 0;
+        }
+        int length = str.length();
+        return length > limit ? OVER_LIMIT : length;
+    }
+
+    /**
+     * Same contract as {@link #lengthOrThrow(CharSequence, int)}, but the exception does not
+     * capture a stack trace, which removes most of the cost of the over-limit path.
+     *
+     * @signals (LengthLimitExceededException) str != null && str.length() > limit
+     */
+    public static int lengthOrThrowStackless(CharSequence str, int limit) {
+        int length = lengthOrStatus(str, limit);
+        if (length == OVER_LIMIT) {
+            throw new LengthLimitExceededException(OVER_LIMIT_MESSAGE);
+        }
+        return length;
+    }
+
+    /**
+     * Measures {@code str} in {@code unit} in a single pass, stopping as soon as the count
+     * crosses {@code limit}: the cost is bounded by the limit, not by the input size.
+     *
+     * @requires unit != null
+     * @ensures str == null ==> \result == 0
+     * @ensures \result == OVER_LIMIT || (0 <= \result && \result <= limit)
+     */
+    public static int measure(CharSequence str, LengthUnit unit, int limit) {
+        if (str == null) {
+            return 0;
+        }
+        if (limit < 0) {
+            return str.length() == 0 ? 0 : OVER_LIMIT;
+        }
+        switch (unit) {
+            case UTF16_UNITS:
+                return lengthOrStatus(str, limit);
+            case CODE_POINTS:
+                return codePoints(str, limit);
+            case UTF8_BYTES:
+                return utf8Bytes(str, limit);
+            case GRAPHEMES:
+                return graphemes(str, limit);
+            default:
+                throw new IllegalArgumentException("Unité inconnue : " + unit);
+        }
+    }
+
+    /**
+     * @ensures \result == measure(str, unit, limit) != OVER_LIMIT
+     */
+    public static boolean fits(CharSequence str, LengthUnit unit, int limit) {
+        return measure(str, unit, limit) != OVER_LIMIT;
+    }
+
+    private static int codePoints(CharSequence str, int limit) {
+        int length = str.length();
+        if (length <= limit) {
+            return Character.codePointCount(str, 0, length);
+        }
+        // Each code point takes at most two units: the count is at least ceil(length / 2).
+        if ((length + 1) >>> 1 > limit) {
+            return OVER_LIMIT;
+        }
+        int count = 0;
+        for (int i = 0; i < length; count++) {
+            if (count == limit) {
+                return OVER_LIMIT;
+            }
+            char c = str.charAt(i++);
+            if (Character.isHighSurrogate(c) && i < length && Character.isLowSurrogate(str.charAt(i))) {
+                i++;
+            }
+        }
+        return count;
+    }
+
+    private static int utf8Bytes(CharSequence str, int limit) {
+        int length = str.length();
+        // Every UTF-16 unit encodes to at least one byte.
+        if (length > limit) {
+            return OVER_LIMIT;
+        }
+        int bytes = 0;
+        for (int i = 0; i < length; i++) {
+            char c = str.charAt(i);
+            if (c < 0x80) {
+                bytes++;
+            } else if (c < 0x800) {
+                bytes += 2;
+            } else if (!Character.isSurrogate(c)) {
+                bytes += 3;
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(str.charAt(i + 1))) {
+                bytes += 4;
+                i++;
+            } else {
+                bytes++;
+            }
+            if (bytes > limit) {
+                return OVER_LIMIT;
+            }
+        }
+        return bytes;
+    }
+
+    private static int graphemes(CharSequence str, int limit) {
+        // A cluster holds at least one unit: under the limit in units, the full count is bounded too.
+        return countGraphemes(str, str.length() <= limit ? Integer.MAX_VALUE : limit);
+    }
+
+    private static int countGraphemes(CharSequence str, int limit) {
+        // Matcher.find() segments lazily, unlike BreakIterator which computes every boundary on setText.
+        Matcher clusters = GRAPHEME.matcher(str);
+        int count = 0;
+        while (clusters.find()) {
+            if (count == limit) {
+                return OVER_LIMIT;
+            }
+            count++;
+        }
+        return count;
+    }
+}
@@ -0,0 +1,22 @@
+package com.baeldung.validation;
+
+/**
+ * Unit in which {@link LengthLimits#measure(CharSequence, LengthUnit, int)} counts a string.
+ */
+public enum LengthUnit {
+
+    /** UTF-16 code units, i.e. {@link CharSequence#length()}. */
+    UTF16_UNITS,
+
+    /** Unicode code points; an unpaired surrogate counts as one. */
+    CODE_POINTS,
+
+    /**
+     * Bytes of the UTF-8 encoding, as produced by {@code String.getBytes(UTF_8)}:
+     * an unpaired surrogate is replaced by {@code '?'} and counts as one byte.
+     */
+    UTF8_BYTES,
+
+    /** Extended grapheme clusters, as matched by the regex construct {@code \X}. */
+    GRAPHEMES
+}
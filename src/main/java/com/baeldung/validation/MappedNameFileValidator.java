@@ -0,0 +1,106 @@
+package com.baeldung.validation;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.function.LongConsumer;
+
+/**
+ * Validates a UTF-8 file holding one name per line, using the rule of {@link NameScanner}.
+ *
+ * The file is memory-mapped window by window with {@link FileChannel#map}. Each window is copied
+ * in bulk, 64 KiB at a time, into one reusable array, where lines are split and checked by the
+ * array path of {@link NameScanner} and its vector kernel. Every mapped byte is thus read once;
+ * the scan happens in cache. A line cut by the end of a chunk moves to the start of the array,
+ * which only grows for lines longer than itself. No String, no decode buffer and no per-line
+ * object is created, so heap usage stays constant whatever the file size. Lines end with
+ * {@code '\n'}; a preceding {@code '\r'} is removed by trimming. Invalid line numbers (1-based)
+ * are reported in increasing order to the caller-supplied sink.
+ *
+ * Mapped windows cannot be unmapped explicitly before Java 22; they are released when the
+ * collector reclaims them. They take address space and page cache, not heap: at most
+ * {@link #DEFAULT_WINDOW_SIZE} bytes are in use at a time, and released windows are clean
+ * pages the operating system can drop.
+ */
+public final class MappedNameFileValidator {
+
+    /**
+     * Size of one mapping window.
+     */
+    static final int DEFAULT_WINDOW_SIZE = 1 << 26;
+
+    /**
+     * Size of the bulk copies out of a window, and initial size of the line array.
+     */
+    static final int CHUNK_SIZE = 1 << 16;
+
+    private static final int MAX_LINE_LENGTH = Integer.MAX_VALUE - 8;
+
+    private MappedNameFileValidator() {
+    }
+
+    /**
+     * @requires file != null && invalidLines != null
+     * @ensures \result.invalidLines() == number of line numbers passed to invalidLines
+     */
+    public static FileValidationSummary validate(Path file, LongConsumer invalidLines) throws IOException {
+        return validate(file, invalidLines, DEFAULT_WINDOW_SIZE);
+    }
+
+    /**
+     * @requires windowSize > 0
+     */
+    static FileValidationSummary validate(Path file, LongConsumer invalidLines, int windowSize)
+            throws IOException {
+        long startNanos = System.nanoTime();
+        long lines = 0;
+        long invalid = 0;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            byte[] buffer = new byte[Math.min(CHUNK_SIZE, windowSize)];
+            // buffer[0, carry) holds the start of a line cut by the previous chunk
+            int carry = 0;
+            for (long position = 0; position < size; position += windowSize) {
+                int mappedSize = (int) Math.min(windowSize, size - position);
+                MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, position, mappedSize);
+                int offset = 0;
+                while (offset < mappedSize) {
+                    if (carry == buffer.length) {
+                        if (carry == MAX_LINE_LENGTH) {
+                            throw new IOException("Line " + (lines + 1) + " is longer than 2 GiB");
+                        }
+                        buffer = Arrays.copyOf(buffer, (int) Math.min(MAX_LINE_LENGTH, 2L * buffer.length));
+                    }
+                    int length = Math.min(buffer.length - carry, mappedSize - offset);
+                    window.get(offset, buffer, carry, length);
+                    offset += length;
+                    int filled = carry + length;
+                    int lineStart = 0;
+                    for (int i = carry; i < filled; i++) {
+                        if (buffer[i] == '\n') {
+                            lines++;
+                            if (!NameScanner.isValidUtf8Name(buffer, lineStart, i)) {
+                                invalid++;
+                                invalidLines.accept(lines);
+                            }
+                            lineStart = i + 1;
+                        }
+                    }
+                    carry = filled - lineStart;
+                    System.arraycopy(buffer, lineStart, buffer, 0, carry);
+                }
+            }
+            if (carry > 0) {
+                lines++;
+                if (!NameScanner.isValidUtf8Name(buffer, 0, carry)) {
+                    invalid++;
+                    invalidLines.accept(lines);
+                }
+            }
+            return new FileValidationSummary(lines, invalid, size, System.nanoTime() - startNanos);
+        }
+    }
+}
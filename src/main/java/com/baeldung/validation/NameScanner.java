@@ -0,0 +1,285 @@
+package com.baeldung.validation;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+/**
+ * Regex-free implementation of the name rule used by {@code StringValidator.estNomValide}.
+ * A name is valid when, after trimming leading and trailing characters {@code <= ' '},
+ * it is non-empty and only contains letters ({@code \p{L}}) and whitespace ({@code \s}).
+ *
+ * Every BMP character is classified through a precomputed bitmap; only supplementary
+ * code points fall back to {@link Character#isLetter(int)}. No allocation happens per call.
+ * UTF-8 input ({@code byte[]} or {@link ByteBuffer}) is decoded inline with the same result;
+ * ASCII runs can go through a Vector API kernel (see {@link #isSimdEnabled()}).
+ */
+public final class NameScanner {
+
+    /**
+     * One bit per BMP character: set when the character is a letter or matches {@code \s}.
+     */
+    private static final long[] BMP_NAME_CHARS = new long[(Character.MAX_VALUE + 1) >>> 6];
+
+    /**
+     * Vector fast path for runs of ASCII bytes, or null when it is disabled or unavailable.
+     */
+    private static final AsciiNameKernel ASCII_KERNEL = AsciiNameKernel.load();
+
+    /**
+     * Per-thread copy buffer for input that is not array-backed.
+     */
+    private static final ThreadLocal<byte[]> CHUNK = ThreadLocal.withInitial(() -> new byte[4096]);
+
+    static {
+        for (int c = 0; c <= Character.MAX_VALUE; c++) {
+            if (Character.isLetter(c) || isRegexWhitespace(c)) {
+                BMP_NAME_CHARS[c >>> 6] |= 1L << c;
+            }
+        }
+    }
+
+    private NameScanner() {
+    }
+
+    /**
+     * Tells whether byte input goes through the Vector API ASCII fast path. It is enabled when the
+     * JVM runs with {@code --add-modules jdk.incubator.vector}, unless the system property
+     * {@code com.baeldung.validation.simd} is {@code false}.
+     */
+    public static boolean isSimdEnabled() {
+        return ASCII_KERNEL != null;
+    }
+
+    /**
+     * Checks a name with the same result as {@code ^[\p{L}\s]+$} applied to {@code name.trim()}.
+     *
+     * @ensures name == null ==> \result == false
+     */
+    public static boolean isValidName(CharSequence name) {
+        if (name == null) {
+            return false;
+        }
+        int start = 0;
+        int end = name.length();
+        while (start < end && name.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && name.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        if (start == end) {
+            return false;
+        }
+        return isNameRange(name, start, end);
+    }
+
+    /**
+     * Checks that every code point of {@code name[start, end)} is a letter or whitespace.
+     *
+     * @requires 0 <= start && start <= end && end <= name.length()
+     */
+    static boolean isNameRange(CharSequence name, int start, int end) {
+        for (int i = start; i < end; i++) {
+            char c = name.charAt(i);
+            if (isNameChar(c)) {
+                continue;
+            }
+            // Only a well-formed surrogate pair can still be a letter
+            if (!Character.isHighSurrogate(c) || i + 1 == end) {
+                return false;
+            }
+            char low = name.charAt(i + 1);
+            if (!Character.isLowSurrogate(low) || !Character.isLetter(Character.toCodePoint(c, low))) {
+                return false;
+            }
+            i++;
+        }
+        return true;
+    }
+
+    /**
+     * Applies the name rule to the UTF-8 bytes {@code utf8[offset, offset + length)} without
+     * decoding to a String. Gives the same result as {@code isValidName(new String(bytes, UTF_8))}.
+     *
+     * @requires 0 <= offset && 0 <= length && offset + length <= utf8.length
+     * @ensures utf8 == null ==> \result == false
+     */
+    public static boolean isValidName(byte[] utf8, int offset, int length) {
+        if (utf8 == null) {
+            return false;
+        }
+        Objects.checkFromIndexSize(offset, length, utf8.length);
+        return isValidUtf8Name(utf8, offset, offset + length);
+    }
+
+    /**
+     * Applies the name rule to the UTF-8 bytes between the position and the limit of the buffer.
+     * Heap and direct buffers are both supported; position and limit are left untouched.
+     *
+     * @ensures utf8 == null ==> \result == false
+     */
+    public static boolean isValidName(ByteBuffer utf8) {
+        if (utf8 == null) {
+            return false;
+        }
+        return isValidUtf8Name(utf8, utf8.position(), utf8.limit());
+    }
+
+    /**
+     * Byte-level variant of the rule: trimming works on single bytes, since every character
+     * {@code <= ' '} is one byte in UTF-8 and continuation bytes are always {@code >= 0x80}.
+     * Malformed sequences (truncated, overlong, surrogates, beyond U+10FFFF) make the name
+     * invalid, as the U+FFFD a decoder would produce does.
+     *
+     * @requires 0 <= from && from <= to && to <= bytes.length
+     */
+    static boolean isValidUtf8Name(byte[] bytes, int from, int to) {
+        int start = from;
+        int end = to;
+        while (start < end && (bytes[start] & 0xFF) <= ' ') {
+            start++;
+        }
+        while (end > start && (bytes[end - 1] & 0xFF) <= ' ') {
+            end--;
+        }
+        return start < end && scanName(bytes, start, end) == end;
+    }
+
+    /**
+     * Same as {@link #isValidUtf8Name(byte[], int, int)} on {@code bytes[from, to)} with absolute
+     * indexes. Buffers backed by an accessible array are scanned through the array; the others,
+     * direct and mapped buffers, are copied chunk by chunk into a per-thread array and scanned
+     * there, so they reach the vector kernel too.
+     *
+     * @requires 0 <= from && from <= to && to <= bytes.limit()
+     */
+    static boolean isValidUtf8Name(ByteBuffer bytes, int from, int to) {
+        if (bytes.hasArray()) {
+            int base = bytes.arrayOffset();
+            return isValidUtf8Name(bytes.array(), base + from, base + to);
+        }
+        int start = from;
+        int end = to;
+        while (start < end && (bytes.get(start) & 0xFF) <= ' ') {
+            start++;
+        }
+        while (end > start && (bytes.get(end - 1) & 0xFF) <= ' ') {
+            end--;
+        }
+        if (start == end) {
+            return false;
+        }
+        byte[] chunk = CHUNK.get();
+        int position = start;
+        while (position < end) {
+            int length = Math.min(chunk.length, end - position);
+            bytes.get(position, chunk, 0, length);
+            int scanned = scanName(chunk, 0, length);
+            // A sequence cut by the end of a chunk is scanned again from the next one
+            if (scanned < 0 || (scanned < length && position + length == end)) {
+                return false;
+            }
+            position += scanned;
+        }
+        return true;
+    }
+
+    /**
+     * Checks the code points of {@code bytes[from, to)}, without trimming.
+     *
+     * @requires 0 <= from && from <= to && to <= bytes.length
+     * @ensures \result == -1 if a character is neither a letter nor whitespace or a sequence is
+     *          malformed; otherwise \result == to, or the start of a sequence truncated by to
+     */
+    private static int scanName(byte[] bytes, int from, int to) {
+        int i = from;
+        if (ASCII_KERNEL != null) {
+            i = ASCII_KERNEL.asciiNamePrefix(bytes, from, to);
+            // Falls back to the general path on the first non-ASCII byte
+            if (i < to && bytes[i] >= 0) {
+                return -1;
+            }
+        }
+        while (i < to) {
+            int b = bytes[i];
+            if (b >= 0) {
+                if (!isNameChar((char) b)) {
+                    return -1;
+                }
+                i++;
+                continue;
+            }
+            int length = utf8SequenceLength(b);
+            if (length == 0) {
+                return -1;
+            }
+            if (i + length > to) {
+                return i;
+            }
+            int codePoint = b & (0x7F >>> length);
+            for (int k = 1; k < length; k++) {
+                int c = bytes[i + k];
+                if ((c & 0xC0) != 0x80) {
+                    return -1;
+                }
+                codePoint = (codePoint << 6) | (c & 0x3F);
+            }
+            if (!isWellFormed(codePoint, length) || !isNameCodePoint(codePoint)) {
+                return -1;
+            }
+            i += length;
+        }
+        return to;
+    }
+
+    /**
+     * @ensures \result == number of bytes announced by a UTF-8 lead byte, 0 if b is not a lead byte
+     */
+    private static int utf8SequenceLength(int b) {
+        if ((b & 0xE0) == 0xC0) {
+            return 2;
+        }
+        if ((b & 0xF0) == 0xE0) {
+            return 3;
+        }
+        if ((b & 0xF8) == 0xF0) {
+            return 4;
+        }
+        return 0;
+    }
+
+    /**
+     * Rejects overlong encodings, surrogate code points and values beyond U+10FFFF.
+     */
+    private static boolean isWellFormed(int codePoint, int length) {
+        switch (length) {
+            case 2:
+                return codePoint >= 0x80;
+            case 3:
+                return codePoint >= 0x800 && !Character.isSurrogate((char) codePoint);
+            default:
+                return codePoint >= Character.MIN_SUPPLEMENTARY_CODE_POINT
+                    && codePoint <= Character.MAX_CODE_POINT;
+        }
+    }
+
+    private static boolean isNameCodePoint(int codePoint) {
+        return codePoint <= Character.MAX_VALUE
+            ? isNameChar((char) codePoint)
+            : Character.isLetter(codePoint);
+    }
+
+    /**
+     * @ensures \result == (Character.isLetter(c) || c is one of " \t\n\x0B\f\r")
+     */
+    static boolean isNameChar(char c) {
+        return (BMP_NAME_CHARS[c >>> 6] & (1L << c)) != 0;
+    }
+
+    /**
+     * Characters matched by {@code \s} without {@code UNICODE_CHARACTER_CLASS}.
+     */
+    static boolean isRegexWhitespace(int c) {
+        return c == ' ' || (c >= '\t' && c <= '\r');
+    }
+}
@@ -0,0 +1,126 @@
+package com.baeldung.validation;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Fork/join bulk validation of names with the rule of {@link NameScanner}.
+ *
+ * Ranges are split on multiples of 64 so that every leaf task owns whole words
+ * of the result bitmap: leaves write without synchronisation and no merge step
+ * is needed, which keeps scaling close to linear until memory bandwidth saturates.
+ */
+public final class ParallelNameValidator {
+
+    /**
+     * Default number of names below which a range is validated sequentially.
+     */
+    public static final int DEFAULT_THRESHOLD = 8192;
+
+    private ParallelNameValidator() {
+    }
+
+    /**
+     * Validates in the caller-supplied pool.
+     *
+     * @requires names != null && pool != null && threshold > 0
+     * @ensures \result.isValid(i) == NameScanner.isValidName(names[i]) for all i
+     */
+    public static BulkValidationResult validate(CharSequence[] names, ForkJoinPool pool, int threshold) {
+        return validate(Arrays.asList(names), pool, threshold);
+    }
+
+    /**
+     * Validates in the caller-supplied pool.
+     * Lists without random access are copied to an array first.
+     *
+     * @requires names != null && pool != null && threshold > 0
+     * @ensures \result.isValid(i) == NameScanner.isValidName(names.get(i)) for all i
+     */
+    public static BulkValidationResult validate(List<? extends CharSequence> names, ForkJoinPool pool,
+                                                int threshold) {
+        if (pool == null) {
+            throw new IllegalArgumentException("pool must not be null");
+        }
+        if (threshold <= 0) {
+            throw new IllegalArgumentException("threshold must be positive: " + threshold);
+        }
+        List<? extends CharSequence> source = names instanceof RandomAccess
+            ? names
+            : Arrays.asList(names.toArray(new CharSequence[0]));
+        int size = source.size();
+        long[] words = new long[(size + 63) >>> 6];
+        if (size > 0) {
+            pool.invoke(new ValidationTask(source, words, 0, size, roundToWord(threshold)));
+        }
+        return new BulkValidationResult(words, size);
+    }
+
+    /**
+     * Validates in a temporary pool of the given parallelism, shut down before returning.
+     *
+     * @requires names != null && parallelism > 0 && threshold > 0
+     */
+    public static BulkValidationResult validate(CharSequence[] names, int parallelism, int threshold) {
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            return validate(names, pool, threshold);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Validates in the common pool with the default threshold.
+     *
+     * @requires names != null
+     */
+    public static BulkValidationResult validate(CharSequence[] names) {
+        return validate(names, ForkJoinPool.commonPool(), DEFAULT_THRESHOLD);
+    }
+
+    private static int roundToWord(int threshold) {
+        return (int) Math.max(64, Math.min(Integer.MAX_VALUE & ~63, ((long) threshold + 63) & ~63L));
+    }
+
+    /**
+     * Validates {@code names[from, to)}; {@code from} is always a multiple of 64.
+     */
+    private static final class ValidationTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        @SuppressWarnings("serial")
+        private final List<? extends CharSequence> names;
+        private final long[] words;
+        private final int from;
+        private final int to;
+        private final int threshold;
+
+        ValidationTask(List<? extends CharSequence> names, long[] words, int from, int to, int threshold) {
+            this.names = names;
+            this.words = words;
+            this.from = from;
+            this.to = to;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= threshold) {
+                for (int i = from; i < to; i++) {
+                    if (NameScanner.isValidName(names.get(i))) {
+                        words[i >>> 6] |= 1L << i;
+                    }
+                }
+                return;
+            }
+            int mid = from + ((((to - from) >>> 1) + 63) & ~63);
+            invokeAll(new ValidationTask(names, words, from, mid, threshold),
+                      new ValidationTask(names, words, mid, to, threshold));
+        }
+    }
+}
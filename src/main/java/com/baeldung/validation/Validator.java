@@ -0,0 +1,22 @@
+package com.baeldung.validation;
+
+/**
+ * A compiled, immutable validation rule set over character sequences.
+ * Instances built by {@link #builder()} check every configured rule in a single scan
+ * and are safe to share between threads.
+ */
+@FunctionalInterface
+public interface Validator {
+
+    /**
+     * @ensures input == null ==> \result == false
+     */
+    boolean isValid(CharSequence input);
+
+    /**
+     * @ensures \result != null
+     */
+    static ValidatorBuilder builder() {
+        return new ValidatorBuilder();
+    }
+}
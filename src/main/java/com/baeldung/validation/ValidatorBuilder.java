@@ -0,0 +1,96 @@
+package com.baeldung.validation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntPredicate;
+
+/**
+ * Composes validation rules into one {@link Validator}.
+ *
+ * Character rules (name charset, forbidden code points, code point predicates) are compiled at
+ * {@link #build()} time into a single bitmap over the BMP: checking a character costs one lookup
+ * whatever the number of rules, and the length limit is checked before the scan starts.
+ * Only supplementary code points and lone surrogates evaluate the rules one by one.
+ * Predicates must therefore be pure functions of the code point.
+ */
+public final class ValidatorBuilder {
+
+    private boolean nameCharset;
+    private int maxLength = Integer.MAX_VALUE;
+    private final List<IntPredicate> codePointRules = new ArrayList<>();
+    private int[] forbidden = new int[0];
+
+    ValidatorBuilder() {
+    }
+
+    /**
+     * Adds the rule of {@code StringValidator.estNomValide}: after trimming characters
+     * {@code <= ' '}, the input is non-empty and only holds letters and whitespace.
+     */
+    public ValidatorBuilder nameCharset() {
+        this.nameCharset = true;
+        return this;
+    }
+
+    /**
+     * Adds the limit of {@code StringValidator.calculerLongueur}: at most {@code maxLength}
+     * UTF-16 units, counted before trimming.
+     *
+     * @requires maxLength >= 0
+     */
+    public ValidatorBuilder maxLength(int maxLength) {
+        if (maxLength < 0) {
+            throw new IllegalArgumentException("maxLength must not be negative: " + maxLength);
+        }
+        this.maxLength = Math.min(this.maxLength, maxLength);
+        return this;
+    }
+
+    /**
+     * Rejects inputs containing any of the given code points.
+     */
+    public ValidatorBuilder forbidCodePoints(int... codePoints) {
+        int[] merged = Arrays.copyOf(forbidden, forbidden.length + codePoints.length);
+        System.arraycopy(codePoints, 0, merged, forbidden.length, codePoints.length);
+        this.forbidden = merged;
+        return this;
+    }
+
+    /**
+     * Rejects inputs containing any character of {@code chars}.
+     */
+    public ValidatorBuilder forbidChars(String chars) {
+        return forbidCodePoints(chars.codePoints().toArray());
+    }
+
+    /**
+     * Requires every code point of the (trimmed, when {@link #nameCharset()} is set) input to
+     * satisfy {@code rule}. The predicate must be pure and thread-safe.
+     */
+    public ValidatorBuilder codePointRule(IntPredicate rule) {
+        if (rule == null) {
+            throw new IllegalArgumentException("rule must not be null");
+        }
+        codePointRules.add(rule);
+        return this;
+    }
+
+    /**
+     * Compiles the configured rules. The builder can be reused afterwards.
+     *
+     * @ensures \result != null
+     */
+    public Validator build() {
+        int[] sortedForbidden = Arrays.stream(forbidden).distinct().sorted().toArray();
+        IntPredicate[] rules = codePointRules.toArray(new IntPredicate[0]);
+        long[] bmpAllowed = new long[(Character.MAX_VALUE + 1) >>> 6];
+        for (int c = 0; c <= Character.MAX_VALUE; c++) {
+            if (!Character.isSurrogate((char) c)
+                    && CompiledValidator.allows(c, nameCharset, sortedForbidden, rules)) {
+                bmpAllowed[c >>> 6] |= 1L << c;
+            }
+        }
+        return new CompiledValidator(nameCharset, maxLength, bmpAllowed, sortedForbidden, rules);
+    }
+}
@@ -0,0 +1,42 @@
+package com.baeldung.validation;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Vector API implementation of {@link AsciiNameKernel}: checks 16 to 64 bytes per step
+ * depending on the preferred vector size of the CPU. Loaded through {@link AsciiNameKernel#load()}.
+ */
+final class VectorAsciiNameKernel implements AsciiNameKernel {
+
+    private static final VectorSpecies<Byte> SPECIES = ByteVector.SPECIES_PREFERRED;
+
+    @Override
+    public int asciiNamePrefix(byte[] bytes, int from, int to) {
+        int i = from;
+        for (int bound = to - SPECIES.length(); i <= bound; i += SPECIES.length()) {
+            ByteVector chunk = ByteVector.fromArray(SPECIES, bytes, i);
+            // Letters: (b | 0x20) in 'a'..'z'; whitespace: ' ' or '\t'..'\r'. Non-ASCII bytes match neither.
+            VectorMask<Byte> letters = chunk.or((byte) 0x20)
+                .sub((byte) 'a')
+                .compare(VectorOperators.UNSIGNED_LT, (byte) 26);
+            VectorMask<Byte> whitespace = chunk.sub((byte) '\t')
+                .compare(VectorOperators.UNSIGNED_LT, (byte) 5)
+                .or(chunk.compare(VectorOperators.EQ, (byte) ' '));
+            VectorMask<Byte> accepted = letters.or(whitespace);
+            if (!accepted.allTrue()) {
+                return i + accepted.not().firstTrue();
+            }
+        }
+        for (; i < to; i++) {
+            int b = bytes[i];
+            // In the ASCII range the name characters are exactly the letters and \s
+            if (b < 0 || !NameScanner.isNameChar((char) b)) {
+                return i;
+            }
+        }
+        return to;
+    }
+}
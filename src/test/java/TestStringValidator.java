@@ -2,7 +2,20 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.BitSet;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.baeldung.validation.CachingValidator;
+import com.baeldung.validation.LengthUnit;
 
 /**
  * Tests unitaires pour la classe `StringValidator`, couvrant la sûreté,
@@ -36,6 +49,106 @@ public class TestStringValidator {
             "Ne doit pas valider les noms avec des symboles.");
     }
     
+    @Test
+    void testValiderNoms_EnLot() {
+        assertEquals(BitSet.valueOf(new long[] {0b101}),
+                     StringValidator.validerNoms("Jean Dupont", "Jean123", "Hélène"),
+            "Doit positionner un bit par nom valide.");
+        assertEquals(2, StringValidator.compterNomsValides("Jean Dupont", "Jean123", "Hélène"),
+            "Doit compter les noms valides du lot.");
+    }
+
+    @Test
+    void testValiderFichier_RapportLignesInvalides(@TempDir Path dossier) throws IOException {
+        Path fichier = dossier.resolve("noms.txt");
+        Files.write(fichier, "Jean Dupont\nJean123\nJean@Dupont\nHélène\n".getBytes(StandardCharsets.UTF_8));
+        StringWriter rapport = new StringWriter();
+
+        assertEquals(2, StringValidator.validerFichier(fichier, rapport).invalidLines(),
+            "Doit compter les lignes invalides du fichier.");
+        assertEquals("2-3\n", rapport.toString(),
+            "Doit regrouper les lignes invalides consécutives en plage.");
+    }
+
+    @Test
+    void testValidationFichier_RapportDansFichier(@TempDir Path dossier) throws IOException {
+        Path fichier = dossier.resolve("noms.txt");
+        Path rapport = dossier.resolve("rapport.txt");
+        Files.write(fichier, "Jean123\nJean Dupont\nJean@Dupont\n".getBytes(StandardCharsets.UTF_8));
+        ByteArrayOutputStream sortie = new ByteArrayOutputStream();
+        ByteArrayOutputStream erreurs = new ByteArrayOutputStream();
+
+        int code = StringValidator.executerValidationFichier(
+            new String[] {"--fichier", fichier.toString(), "--rapport", rapport.toString()},
+            new PrintStream(sortie, true, StandardCharsets.UTF_8), new PrintStream(erreurs, true, StandardCharsets.UTF_8));
+
+        assertEquals(StringValidator.SORTIE_OK, code, "Doit réussir.");
+        assertEquals("1\n3\n", Files.readString(rapport), "Doit écrire le rapport dans le fichier --rapport.");
+        assertEquals(0, sortie.size(), "Ne doit rien écrire sur la sortie standard.");
+        assertTrue(erreurs.toString(StandardCharsets.UTF_8).startsWith("Lignes : 3, invalides : 2"),
+            "Doit afficher le résumé sur la sortie d'erreur.");
+    }
+
+    @Test
+    void testValidationFichier_RapportSurSortie(@TempDir Path dossier) throws IOException {
+        Path fichier = dossier.resolve("noms.txt");
+        Files.write(fichier, "Jean Dupont\nJean123\nJean@Dupont\nHélène".getBytes(StandardCharsets.UTF_8));
+        ByteArrayOutputStream sortie = new ByteArrayOutputStream();
+        ByteArrayOutputStream erreurs = new ByteArrayOutputStream();
+
+        int code = StringValidator.executerValidationFichier(new String[] {"--fichier", fichier.toString()},
+            new PrintStream(sortie, true, StandardCharsets.UTF_8), new PrintStream(erreurs, true, StandardCharsets.UTF_8));
+
+        assertEquals(StringValidator.SORTIE_OK, code, "Doit réussir.");
+        assertEquals("2-3\n", sortie.toString(StandardCharsets.UTF_8), "Doit écrire le rapport sur la sortie.");
+        assertTrue(erreurs.toString(StandardCharsets.UTF_8).startsWith("Lignes : 4, invalides : 2"),
+            "Doit afficher le résumé sur la sortie d'erreur.");
+    }
+
+    @Test
+    void testValidationFichier_ArgumentsInvalides(@TempDir Path dossier) {
+        String fichier = dossier.resolve("noms.txt").toString();
+        String[][] arguments = {
+            {"--fichier"},
+            {"--fichier", fichier, "--rapport"},
+            {"--fichier", fichier, "--sortie", "rapport.txt"},
+            {"--fichier", fichier, "--rapport", "rapport.txt", "en-trop"},
+        };
+        for (String[] args : arguments) {
+            ByteArrayOutputStream sortie = new ByteArrayOutputStream();
+            ByteArrayOutputStream erreurs = new ByteArrayOutputStream();
+
+            int code = StringValidator.executerValidationFichier(args,
+                new PrintStream(sortie, true, StandardCharsets.UTF_8), new PrintStream(erreurs, true, StandardCharsets.UTF_8));
+
+            assertEquals(StringValidator.SORTIE_USAGE, code, "Doit refuser " + String.join(" ", args));
+            assertTrue(erreurs.toString(StandardCharsets.UTF_8).startsWith("Usage : "), "Doit afficher l'usage.");
+            assertEquals(0, sortie.size(), "Ne doit rien écrire sur la sortie standard.");
+        }
+    }
+
+    @Test
+    void testValidationFichier_FichierAbsent(@TempDir Path dossier) {
+        ByteArrayOutputStream erreurs = new ByteArrayOutputStream();
+
+        int code = StringValidator.executerValidationFichier(
+            new String[] {"--fichier", dossier.resolve("absent.txt").toString()},
+            new PrintStream(new ByteArrayOutputStream(), true, StandardCharsets.UTF_8),
+            new PrintStream(erreurs, true, StandardCharsets.UTF_8));
+
+        assertEquals(StringValidator.SORTIE_ERREUR_FICHIER, code, "Doit échouer sur un fichier absent.");
+        assertTrue(erreurs.toString(StandardCharsets.UTF_8).startsWith("ERREUR : "), "Doit expliquer l'échec.");
+    }
+
+    @Test
+    void testCreerCacheNoms_MemeResultat() {
+        CachingValidator cache = StringValidator.creerCacheNoms(100);
+        assertTrue(cache.isValid("Jean Dupont"), "Doit valider un nom simple.");
+        assertTrue(cache.isValid("Jean Dupont"), "Doit renvoyer le résultat mis en cache.");
+        assertFalse(cache.isValid("Jean123"), "Ne doit pas valider les noms avec des chiffres.");
+        assertEquals(1, cache.stats().hitCount(), "Doit compter un succès de cache.");
+    }
+
     // --- Tests de robustesse (defaultIfNull) ---
 
     @Test
@@ -69,6 +182,34 @@ public class TestStringValidator {
         }, "Doit lever une `IllegalArgumentException` si la limite est dépassée.");
     }
 
+    @Test
+    void testMesurerLongueur_SansException() {
+        assertEquals(9, StringValidator.mesurerLongueur("Trop long", 9),
+            "Doit retourner la longueur si dans la limite.");
+        assertEquals(StringValidator.LONGUEUR_DEPASSEE, StringValidator.mesurerLongueur("Trop long", 5),
+            "Doit retourner LONGUEUR_DEPASSEE au lieu de lever une exception.");
+        assertEquals(0, StringValidator.mesurerLongueur(null, 5),
+            "Doit retourner 0 si l'entrée est null.");
+    }
+
+    @Test
+    void testCalculerLongueurSansTrace_DepasseLimite() {
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+            () -> StringValidator.calculerLongueurSansTrace("Trop long", 5),
+            "Doit conserver le contrat de calculerLongueur.");
+        assertEquals(0, e.getStackTrace().length, "L'exception ne doit pas capturer de pile d'appels.");
+        assertEquals(4, StringValidator.calculerLongueurSansTrace("Dans", 5));
+    }
+
+    @Test
+    void testMesurerLongueur_EnOctetsUtf8() {
+        assertEquals(8, StringValidator.mesurerLongueur("Hélène", LengthUnit.UTF8_BYTES, 8),
+            "'é' et 'è' comptent chacun pour deux octets UTF-8.");
+        assertEquals(StringValidator.LONGUEUR_DEPASSEE,
+            StringValidator.mesurerLongueur("Hélène", LengthUnit.UTF8_BYTES, 7),
+            "Doit signaler le dépassement en octets alors que la longueur UTF-16 tient dans la limite.");
+    }
+
     @Test
     void testCalculerLongueur_InputEstNull() {
         assertEquals(0, 
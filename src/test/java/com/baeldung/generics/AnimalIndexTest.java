@@ -0,0 +1,81 @@
+package com.baeldung.generics;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.*;
+
+/**
+ * Test suite for cached animal hashing and the open-addressing animal index.
+ */
+@DisplayName("Animal Index Tests")
+class AnimalIndexTest {
+
+    @Test
+    @DisplayName("Test cached hash codes keep the Objects.hash values")
+    void testCachedHashCode() {
+        Cat cat = new Cat("Feline", "Tom");
+        Dog dog = new Dog("Canine", "Rex");
+
+        assertEquals(Objects.hash("Feline", "Tom"), cat.hashCode());
+        assertEquals(Objects.hash("Canine", "Rex"), dog.keyHash());
+        assertEquals(Objects.hash("Feline", "Tom"), Animal.hash("Feline", "Tom"));
+    }
+
+    @Test
+    @DisplayName("Test dogs keep identity equality but are indexed by type and name")
+    void testDogEquality() {
+        Dog rex = new Dog("Canine", "Rex");
+        Set<Animal> animals = new HashSet<>();
+        animals.add(rex);
+        animals.add(new Dog("Canine", "Rex"));
+        animals.add(new Cat("Canine", "Rex"));
+
+        assertEquals(3, animals.size());
+        assertNotEquals(rex, new Dog("Canine", "Rex"));
+
+        AnimalIndex<Dog> index = new AnimalIndex<>();
+        assertTrue(index.add(rex));
+        assertFalse(index.add(new Dog("Canine", "Rex")));
+        assertSame(rex, index.get("Canine", "Rex"));
+    }
+
+    @Test
+    @DisplayName("Test index deduplicates and grows")
+    void testAddAndGet() {
+        AnimalIndex<Cat> index = new AnimalIndex<>();
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(index.add(new Cat("Feline", "chat" + i)));
+        }
+        for (int i = 0; i < 10_000; i += 7) {
+            assertFalse(index.add(new Cat("Feline", "chat" + i)));
+        }
+
+        assertEquals(10_000, index.size());
+        assertEquals("chat42", index.get("Feline", "chat42").getName());
+        assertTrue(index.contains("Feline", "chat9999"));
+        assertTrue(index.contains(new Cat("Feline", "chat9999")));
+        assertFalse(index.contains(new Dog("Feline", "chat10000")));
+        assertFalse(index.contains("Feline", "chat10000"));
+        assertFalse(index.contains("Canine", "chat1"));
+        assertEquals(10_000, new HashSet<>(Arrays.asList(index.toArray(new Cat[0]))).size());
+    }
+
+    @Test
+    @DisplayName("Test colliding hash codes are told apart")
+    void testHashCollisions() {
+        // "Aa" and "BB" share a String hash code, and so do the animals built from them
+        Cat first = new Cat("Feline", "Aa");
+        Cat second = new Cat("Feline", "BB");
+        assertEquals(first.hashCode(), second.hashCode());
+
+        AnimalIndex<Animal> index = new AnimalIndex<>(2);
+        assertTrue(index.add(first));
+        assertTrue(index.add(second));
+        assertFalse(index.add(new Dog("Feline", "Aa")));
+
+        assertSame(first, index.get("Feline", "Aa"));
+        assertSame(second, index.get("Feline", "BB"));
+        assertThrows(IllegalArgumentException.class, () -> new AnimalIndex<Cat>(-1));
+    }
+}
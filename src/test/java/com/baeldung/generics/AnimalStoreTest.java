@@ -0,0 +1,104 @@
+package com.baeldung.generics;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.*;
+
+/**
+ * Test suite for the columnar animal store.
+ */
+@DisplayName("Animal Store Tests")
+class AnimalStoreTest {
+
+    private static List<Animal> animals() {
+        List<Animal> animals = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            String type = "Type" + (i % 3);
+            animals.add(i % 4 == 0 ? new Dog(type, "dog" + i) : new Cat(type, i % 5 == 0 ? "" : "chat" + i));
+        }
+        return animals;
+    }
+
+    /**
+     * Dogs have identity equality: compares the class, type and name instead.
+     */
+    private static void assertSameAnimal(Animal expected, Animal actual) {
+        assertEquals(expected.getClass(), actual.getClass());
+        assertEquals(expected.getType(), actual.getType());
+        assertEquals(expected.getName(), actual.getName());
+    }
+
+    @Test
+    @DisplayName("Test rows round-trip through get and the cursor")
+    void testRoundTrip() {
+        List<Animal> animals = animals();
+        AnimalStore store = new AnimalStore();
+        for (Animal animal : animals) {
+            store.add(animal);
+        }
+
+        assertEquals(animals.size(), store.size());
+        AnimalStore.Cursor cursor = store.cursor();
+        for (Animal animal : animals) {
+            assertTrue(cursor.next());
+            assertSameAnimal(animal, store.get(cursor.position()));
+            assertSameAnimal(animal, cursor.toAnimal());
+            assertEquals(animal.getType(), cursor.getType());
+            assertEquals(animal.getName(), cursor.getName());
+            assertEquals(animal.makeSound(), cursor.makeSound());
+            assertTrue(cursor.nameEquals(animal.getName()));
+            assertFalse(cursor.nameEquals(animal.getName() + "x"));
+        }
+        assertFalse(cursor.next());
+        assertEquals('1', cursor.moveTo(1).nameCharAt(4));
+        assertThrows(IndexOutOfBoundsException.class, () -> store.get(animals.size()));
+        assertThrows(IndexOutOfBoundsException.class, () -> store.cursor().moveTo(-1));
+        assertThrows(IllegalArgumentException.class, () -> store.add(new Animal("Bird", "Tweety") {
+            @Override
+            String makeSound() {
+                return "Tweet";
+            }
+        }));
+    }
+
+    @Test
+    @DisplayName("Test scans match the object-list results")
+    void testScans() {
+        List<Animal> animals = animals();
+        AnimalStore store = new AnimalStore(0);
+        for (Animal animal : animals) {
+            store.add(animal);
+        }
+        store.add(AnimalStore.Kind.DOG, "Type1", "Rex");
+
+        assertEquals(animals.stream().filter(a -> a instanceof Dog).count() + 1, store.count(AnimalStore.Kind.DOG));
+        assertEquals(animals.stream().filter(a -> a.getName().length() >= 6).count(), store.countNameLengthAtLeast(6));
+        assertEquals(animals.stream().filter(a -> a.getName().startsWith("chat1")).count(),
+            store.count(cursor -> cursor.nameLength() >= 5 && cursor.nameCharAt(4) == '1' && cursor.getKind() == AnimalStore.Kind.CAT));
+        int[] counts = store.countByType();
+        assertEquals(3, counts.length);
+        assertEquals(334, counts[store.types().intern("Type1")]);
+        assertEquals(store.size(), Arrays.stream(counts).sum());
+    }
+
+    @Test
+    @DisplayName("Test type ids stay dense whatever the animals were interned through")
+    void testDenseTypeIds() {
+        AnimalSymbols symbols = new AnimalSymbols();
+        for (int i = 0; i < 1_000; i++) {
+            symbols.names().intern("nom" + i);
+        }
+        AnimalStore store = new AnimalStore(1);
+        store.add(Cat.interned("Feline", "Tom", symbols));
+        store.add(Dog.interned("Canine", "Rex", symbols));
+        store.add(new Cat("Feline", "Felix"));
+
+        assertArrayEquals(new int[] {2, 1}, store.countByType());
+        AnimalStore.Cursor cursor = store.cursor().moveTo(1);
+        assertEquals(1, cursor.getTypeId());
+        assertEquals("Canine", cursor.getType());
+        assertEquals("Cat{type='Feline', name='Tom'}", cursor.moveTo(0).toString());
+        assertThrows(IllegalArgumentException.class, () -> new AnimalStore(-1));
+    }
+}
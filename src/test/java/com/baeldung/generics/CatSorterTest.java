@@ -0,0 +1,87 @@
+package com.baeldung.generics;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Test suite for the name-length sorts of cats.
+ */
+@DisplayName("Cat Sorter Tests")
+class CatSorterTest {
+
+    private static List<Cat> cats(int size, int maxLength) {
+        Random random = new Random(size);
+        List<Cat> cats = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            cats.add(new Cat("Feline", "x".repeat(random.nextInt(maxLength + 1))));
+        }
+        return cats;
+    }
+
+    private static void assertSortedLikeCollections(List<Cat> original, List<Cat> sorted) {
+        List<Cat> expected = new ArrayList<>(original);
+        Collections.sort(expected);
+        assertEquals(expected.size(), sorted.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertSame(expected.get(i), sorted.get(i), "position " + i);
+        }
+    }
+
+    @Test
+    @DisplayName("Test counting sort is stable and matches Collections.sort")
+    void testSortByNameLength() {
+        for (int size : new int[] {0, 1, 2, 100, 10_000}) {
+            List<Cat> original = cats(size, 20);
+            List<Cat> arrayList = new ArrayList<>(original);
+            List<Cat> linkedList = new LinkedList<>(original);
+            CatSorter.sortByNameLength(arrayList);
+            CatSorter.sortByNameLength(linkedList);
+
+            assertSortedLikeCollections(original, arrayList);
+            assertSortedLikeCollections(original, linkedList);
+        }
+        List<Cat> empty = cats(5, 0);
+        List<Cat> unchanged = new ArrayList<>(empty);
+        CatSorter.sortByNameLength(unchanged);
+        assertSortedLikeCollections(empty, unchanged);
+    }
+
+    @Test
+    @DisplayName("Test names longer than 2^16 characters go through the radix passes")
+    void testRadixFallback() {
+        List<Cat> original = cats(200, 20);
+        original.add(50, new Cat("Feline", "y".repeat(70_000)));
+        original.add(10, new Cat("Feline", "y".repeat(65_537)));
+        original.add(new Cat("Feline", "z".repeat(70_000)));
+        List<Cat> sorted = new ArrayList<>(original);
+        CatSorter.sortByNameLength(sorted);
+
+        assertSortedLikeCollections(original, sorted);
+    }
+
+    @Test
+    @DisplayName("Test parallel sort gives the sequential result")
+    void testParallelSortByNameLength() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            List<Cat> original = cats(50_000, 40);
+            original.add(new Cat("Feline", "y".repeat(70_000)));
+            for (int threshold : new int[] {1_000, 7_919, 1 << 20}) {
+                List<Cat> sorted = new ArrayList<>(original);
+                CatSorter.parallelSortByNameLength(sorted, pool, threshold);
+                assertSortedLikeCollections(original, sorted);
+            }
+            List<Cat> common = new ArrayList<>(original);
+            CatSorter.parallelSortByNameLength(common);
+            assertSortedLikeCollections(original, common);
+
+            assertThrows(IllegalArgumentException.class, () -> CatSorter.parallelSortByNameLength(common, null, 1));
+            assertThrows(IllegalArgumentException.class, () -> CatSorter.parallelSortByNameLength(common, pool, 0));
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
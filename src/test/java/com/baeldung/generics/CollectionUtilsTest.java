@@ -0,0 +1,167 @@
+package com.baeldung.generics;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.LongStream;
+
+/**
+ * Test suite for the sum kernels of CollectionUtils, sequential and parallel.
+ */
+@DisplayName("CollectionUtils Sum Tests")
+class CollectionUtilsTest {
+
+    @Test
+    @DisplayName("Test primitive sums match a stream sum for every tail length")
+    void testPrimitiveSums() {
+        Random random = new Random(42);
+        for (int length = 0; length < 12; length++) {
+            int[] ints = random.ints(length).toArray();
+            long[] longs = random.longs(length).toArray();
+            long expectedInts = Arrays.stream(ints).asLongStream().sum();
+            long expectedLongs = LongStream.of(longs).sum();
+
+            assertEquals(expectedInts, CollectionUtils.sum(ints));
+            assertEquals(expectedInts, CollectionUtils.sum(IntBuffer.wrap(ints)));
+            assertEquals(expectedLongs, CollectionUtils.sum(longs));
+            assertEquals(expectedLongs, CollectionUtils.sum(LongList.of(longs)));
+            assertEquals(expectedLongs, CollectionUtils.sum(LongBuffer.wrap(longs)));
+        }
+    }
+
+    @Test
+    @DisplayName("Test int sums do not wrap at 32 bits")
+    void testIntSumWidens() {
+        int[] values = new int[1001];
+        Arrays.fill(values, Integer.MAX_VALUE);
+
+        assertEquals(1001L * Integer.MAX_VALUE, CollectionUtils.sum(values));
+    }
+
+    @Test
+    @DisplayName("Test buffers are summed from position to limit, in place")
+    void testBufferRange() {
+        LongBuffer heap = LongBuffer.wrap(new long[] {100, 1, 2, 3, 4, 5, 100}, 1, 5).slice();
+        LongBuffer direct = ByteBuffer.allocateDirect(7 * Long.BYTES).asLongBuffer();
+        IntBuffer directInts = ByteBuffer.allocateDirect(7 * Integer.BYTES).asIntBuffer();
+        for (long value : new long[] {100, 1, 2, 3, 4, 5, 100}) {
+            direct.put(value);
+            directInts.put((int) value);
+        }
+        direct.position(1).limit(6);
+        directInts.position(1).limit(6);
+
+        assertEquals(15, CollectionUtils.sum(heap));
+        assertEquals(15, CollectionUtils.sum(direct));
+        assertEquals(15, CollectionUtils.sum(directInts));
+        assertEquals(15, CollectionUtils.sumExact(direct));
+        assertEquals(1, direct.position());
+        assertEquals(1, directInts.position());
+    }
+
+    @Test
+    @DisplayName("Test exact sums throw only when the total overflows")
+    void testSumExact() {
+        long[] fits = {Long.MAX_VALUE, 0, 0, 0, 1, 0, 0, 0, -1};
+        long[] overflows = {Long.MAX_VALUE, 1};
+        long[] underflows = {Long.MIN_VALUE, 0, 0, 0, -1};
+
+        assertEquals(Long.MAX_VALUE, CollectionUtils.sumExact(fits));
+        assertEquals(Long.MAX_VALUE, CollectionUtils.sumExact(LongList.of(fits)));
+        assertEquals(Long.MAX_VALUE, CollectionUtils.sumExact(directCopy(fits)));
+        assertThrows(ArithmeticException.class, () -> CollectionUtils.sumExact(overflows));
+        assertThrows(ArithmeticException.class, () -> CollectionUtils.sumExact(underflows));
+        assertThrows(ArithmeticException.class, () -> CollectionUtils.sumExact(directCopy(underflows)));
+        assertEquals(Long.MIN_VALUE, CollectionUtils.sum(overflows));
+    }
+
+    @Test
+    @DisplayName("Test boxed sums handle homogeneous, mixed and linked lists")
+    void testBoxedSums() {
+        List<Integer> integers = Arrays.asList(1, 2, 3, 4);
+        List<Long> longs = new LinkedList<>(Arrays.asList(5L, 6L));
+        List<Number> mixed = Arrays.asList(1, 2, 3L, 4.5, (short) 5);
+
+        assertEquals(10, CollectionUtils.sumTypeParameter(integers));
+        assertEquals(11, CollectionUtils.sumWildcard(longs));
+        assertEquals(15, CollectionUtils.sum(mixed));
+        assertEquals(0, CollectionUtils.sumWildcard(Collections.emptyList()));
+        assertThrows(NullPointerException.class, () -> CollectionUtils.sumWildcard(Arrays.asList(1, null)));
+    }
+
+    @Test
+    @DisplayName("Test LongList grows and bounds-checks")
+    void testLongList() {
+        LongList list = new LongList(0);
+        for (long i = 0; i < 100; i++) {
+            list.add(i);
+        }
+
+        assertEquals(100, list.size());
+        assertEquals(42, list.set(42, -1));
+        assertEquals(-1, list.get(42));
+        assertEquals(4950 - 43, CollectionUtils.sum(list));
+        assertArrayEquals(new long[] {0, 1}, LongList.of(0, 1).toArray());
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(100));
+        assertThrows(IllegalArgumentException.class, () -> new LongList(-1));
+    }
+
+    @Test
+    @DisplayName("Test parallel sums match the sequential sum for any split")
+    void testParallelSum() {
+        Random random = new Random(7);
+        List<Number> numbers = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            numbers.add(i % 3 == 0 ? (Number) random.nextInt() : (Number) random.nextLong());
+        }
+        long expected = CollectionUtils.sumWildcard(numbers);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (int threshold : new int[] {1, 7, 1000, 100_000}) {
+                assertEquals(expected, CollectionUtils.parallelSum(numbers, pool, threshold));
+                assertEquals(expected, CollectionUtils.parallelSum(new LinkedList<>(numbers), pool, threshold));
+            }
+        } finally {
+            pool.shutdown();
+        }
+        assertEquals(expected, CollectionUtils.parallelSum(numbers));
+        assertEquals(0, CollectionUtils.parallelSum(Collections.emptyList()));
+    }
+
+    @Test
+    @DisplayName("Test parallel exact sums widen past the long range")
+    void testParallelSumExact() {
+        List<Long> numbers = new ArrayList<>(Collections.nCopies(1000, Long.MAX_VALUE));
+        numbers.addAll(Collections.nCopies(10, Long.MIN_VALUE));
+        BigInteger expected = BigInteger.valueOf(Long.MAX_VALUE).multiply(BigInteger.valueOf(1000))
+            .add(BigInteger.valueOf(Long.MIN_VALUE).multiply(BigInteger.TEN));
+        List<Long> negative = Collections.nCopies(3, Long.MIN_VALUE);
+
+        ForkJoinPool pool = new ForkJoinPool(3);
+        try {
+            for (int threshold : new int[] {1, 16, 10_000}) {
+                assertEquals(expected, CollectionUtils.parallelSumExact(numbers, pool, threshold));
+                assertEquals(BigInteger.valueOf(Long.MIN_VALUE).multiply(BigInteger.valueOf(3)),
+                    CollectionUtils.parallelSumExact(negative, pool, threshold));
+            }
+            assertEquals(BigInteger.ZERO, CollectionUtils.parallelSumExact(List.of(), pool, 1));
+            assertEquals(BigInteger.valueOf(6), CollectionUtils.parallelSumExact(List.of(1, 2L, 3.5), pool, 1));
+            assertThrows(IllegalArgumentException.class, () -> CollectionUtils.parallelSumExact(numbers, pool, 0));
+            assertThrows(IllegalArgumentException.class, () -> CollectionUtils.parallelSum(numbers, null, 10));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static LongBuffer directCopy(long[] values) {
+        LongBuffer buffer = ByteBuffer.allocateDirect(values.length * Long.BYTES).asLongBuffer();
+        buffer.put(values).flip();
+        return buffer;
+    }
+}
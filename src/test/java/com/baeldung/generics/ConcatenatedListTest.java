@@ -0,0 +1,75 @@
+package com.baeldung.generics;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.*;
+
+/**
+ * Test suite for the zero-copy concatenated list view.
+ */
+@DisplayName("Concatenated List Tests")
+class ConcatenatedListTest {
+
+    @Test
+    @DisplayName("Test two-list view reads through without copying")
+    void testTwoListView() {
+        List<Integer> first = new ArrayList<>(Arrays.asList(1, 2, 3));
+        List<Integer> second = Arrays.asList(4, 5);
+
+        ConcatenatedList<Number> view = CollectionUtils.concatView(first, second);
+        first.set(0, 10);
+
+        assertEquals(Arrays.asList(10, 2, 3, 4, 5), view);
+        assertEquals(5, view.size());
+        assertEquals(4, view.get(3));
+        assertTrue(view instanceof RandomAccess);
+        assertThrows(IndexOutOfBoundsException.class, () -> view.get(5));
+        assertThrows(IndexOutOfBoundsException.class, () -> view.get(-1));
+        assertThrows(UnsupportedOperationException.class, () -> view.add(6));
+    }
+
+    @Test
+    @DisplayName("Test k-way view skips empty parts and copies linked parts")
+    void testKWayView() {
+        List<List<String>> parts = Arrays.asList(
+            Collections.emptyList(),
+            Arrays.asList("a", "b"),
+            Collections.emptyList(),
+            Collections.emptyList(),
+            new LinkedList<>(Arrays.asList("c")),
+            Arrays.asList("d", "e", "f"),
+            Collections.emptyList());
+        List<String> expected = Arrays.asList("a", "b", "c", "d", "e", "f");
+
+        ConcatenatedList<String> view = CollectionUtils.concatView(parts);
+
+        assertEquals(expected.size(), view.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), view.get(i), "index " + i);
+        }
+        List<String> iterated = new ArrayList<>();
+        view.iterator().forEachRemaining(iterated::add);
+        assertEquals(expected, iterated);
+        List<String> visited = new ArrayList<>();
+        view.forEach(visited::add);
+        assertEquals(expected, visited);
+        assertEquals(Arrays.asList("b", "c", "d"), view.subList(1, 4));
+        assertTrue(CollectionUtils.concatView(Collections.<List<String>>emptyList()).isEmpty());
+        assertFalse(CollectionUtils.concatView(Arrays.asList(Collections.emptyList())).iterator().hasNext());
+    }
+
+    @Test
+    @DisplayName("Test materialize gives an independent modifiable copy")
+    void testMaterialize() {
+        List<Integer> first = new ArrayList<>(Arrays.asList(1, 2));
+        ConcatenatedList<Integer> view = CollectionUtils.concatView(first, Arrays.asList(3));
+
+        List<Integer> copy = view.materialize();
+        first.set(0, 9);
+        copy.add(4);
+
+        assertEquals(Arrays.asList(1, 2, 3, 4), copy);
+        assertEquals(Arrays.asList(9, 2, 3), view);
+    }
+}
@@ -0,0 +1,100 @@
+package com.baeldung.generics;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.*;
+
+/**
+ * Test suite for the bulk reordering operations of CollectionUtils.
+ */
+@DisplayName("List Permutation Tests")
+class ListPermutationTest {
+
+    private static List<List<Integer>> bothKinds(Integer... values) {
+        return Arrays.asList(new ArrayList<>(Arrays.asList(values)), new LinkedList<>(Arrays.asList(values)));
+    }
+
+    @Test
+    @DisplayName("Test permute gathers elements for random-access and linked lists")
+    void testPermute() {
+        Random random = new Random(11);
+        for (int size : new int[] {0, 1, 2, 7, 130}) {
+            int[] permutation = new int[size];
+            for (int i = 0; i < size; i++) {
+                permutation[i] = i;
+            }
+            for (int i = size - 1; i > 0; i--) {
+                int j = random.nextInt(i + 1);
+                int tmp = permutation[i];
+                permutation[i] = permutation[j];
+                permutation[j] = tmp;
+            }
+            Integer[] values = new Integer[size];
+            List<Integer> expected = new ArrayList<>();
+            for (int i = 0; i < size; i++) {
+                values[i] = 100 + i;
+            }
+            for (int i = 0; i < size; i++) {
+                expected.add(values[permutation[i]]);
+            }
+            for (List<Integer> list : bothKinds(values)) {
+                CollectionUtils.permute(list, permutation);
+                assertEquals(expected, list, list.getClass().getSimpleName() + " of " + size);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Test permute rejects invalid permutations before modifying the list")
+    void testPermuteValidation() {
+        List<String> list = new ArrayList<>(Arrays.asList("a", "b", "c"));
+
+        assertThrows(IllegalArgumentException.class, () -> CollectionUtils.permute(list, new int[] {0, 1}));
+        assertThrows(IllegalArgumentException.class, () -> CollectionUtils.permute(list, new int[] {2, 0, 2}));
+        assertThrows(IllegalArgumentException.class, () -> CollectionUtils.permute(list, new int[] {1, 0, 3}));
+        assertThrows(IllegalArgumentException.class, () -> CollectionUtils.permute(list, new int[] {1, -1, 0}));
+        assertEquals(Arrays.asList("a", "b", "c"), list);
+    }
+
+    @Test
+    @DisplayName("Test seeded shuffle is reproducible and the same for both list kinds")
+    void testShuffle() {
+        Integer[] values = new Integer[50];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = i;
+        }
+        List<List<Integer>> lists = bothKinds(values);
+        for (List<Integer> list : lists) {
+            CollectionUtils.shuffle(list, new SplittableRandom(5));
+        }
+
+        assertEquals(lists.get(0), lists.get(1));
+        assertNotEquals(Arrays.asList(values), lists.get(0));
+        List<Integer> sorted = new ArrayList<>(lists.get(0));
+        Collections.sort(sorted);
+        assertEquals(Arrays.asList(values), sorted);
+    }
+
+    @Test
+    @DisplayName("Test reverse and rotate of ranges match Collections on sublists")
+    void testReverseAndRotate() {
+        for (int distance : new int[] {-7, -1, 0, 1, 2, 5, 12}) {
+            for (List<Integer> list : bothKinds(0, 1, 2, 3, 4, 5, 6, 7)) {
+                List<Integer> expected = new ArrayList<>(list);
+                Collections.rotate(expected.subList(2, 7), distance);
+                CollectionUtils.rotate(list, 2, 7, distance);
+                assertEquals(expected, list, list.getClass().getSimpleName() + " by " + distance);
+            }
+        }
+        for (List<Integer> list : bothKinds(0, 1, 2, 3, 4, 5)) {
+            CollectionUtils.reverse(list, 1, 5);
+            assertEquals(Arrays.asList(0, 4, 3, 2, 1, 5), list);
+            CollectionUtils.reverse(list, 3, 3);
+            CollectionUtils.rotate(list, 3, 3, 4);
+            assertEquals(Arrays.asList(0, 4, 3, 2, 1, 5), list);
+            assertThrows(IndexOutOfBoundsException.class, () -> CollectionUtils.reverse(list, 2, 7));
+            assertThrows(IndexOutOfBoundsException.class, () -> CollectionUtils.rotate(list, 4, 3, 1));
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.baeldung.generics;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.*;
+
+/**
+ * Test suite for the sorted k-way merge of CollectionUtils.
+ */
+@DisplayName("Sorted Merge Tests")
+class MergingIteratorTest {
+
+    @Test
+    @DisplayName("Test merging cats equals a stable sort of the concatenation")
+    void testMergeMatchesStableSort() {
+        Random random = new Random(3);
+        for (int k : new int[] {1, 2, 3, 16, 100}) {
+            List<List<Cat>> shards = new ArrayList<>();
+            List<Cat> all = new ArrayList<>();
+            for (int shard = 0; shard < k; shard++) {
+                List<Cat> cats = new ArrayList<>();
+                int size = random.nextInt(20);
+                for (int i = 0; i < size; i++) {
+                    cats.add(new Cat("Feline", "c".repeat(1 + random.nextInt(6)) + "#" + shard + "." + i));
+                }
+                Collections.sort(cats);
+                shards.add(cats);
+                all.addAll(cats);
+            }
+            Collections.sort(all);
+
+            List<Cat> merged = CollectionUtils.mergeSorted(shards);
+            assertEquals(all, merged, "k = " + k);
+        }
+    }
+
+    @Test
+    @DisplayName("Test lazy merge reads sources on demand")
+    void testLazyIterator() {
+        Iterator<Integer> infinite = new Iterator<Integer>() {
+            private int next;
+
+            @Override
+            public boolean hasNext() {
+                return true;
+            }
+
+            @Override
+            public Integer next() {
+                return next += 2;
+            }
+        };
+        Iterator<Integer> merged = CollectionUtils.mergeSortedIterator(
+            Arrays.asList(infinite, Arrays.asList(1, 3, 5).iterator()), Comparator.naturalOrder());
+
+        List<Integer> first = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            first.add(merged.next());
+        }
+        assertEquals(Arrays.asList(1, 2, 3, 4, 5, 6, 8, 10), first);
+        assertTrue(merged.hasNext());
+    }
+
+    @Test
+    @DisplayName("Test empty sources and exhausted merges")
+    void testEmptySources() {
+        Iterator<String> merged = CollectionUtils.mergeSortedIterator(
+            Arrays.asList(Collections.<String>emptyIterator(), Arrays.asList("a").iterator(),
+                Collections.<String>emptyIterator()),
+            Comparator.reverseOrder());
+
+        assertEquals("a", merged.next());
+        assertFalse(merged.hasNext());
+        assertThrows(NoSuchElementException.class, merged::next);
+        assertTrue(CollectionUtils.mergeSorted(Collections.<List<Integer>>emptyList()).isEmpty());
+        assertThrows(IllegalArgumentException.class,
+            () -> CollectionUtils.mergeSortedIterator(Collections.<Iterator<String>>emptyList(), null));
+    }
+}
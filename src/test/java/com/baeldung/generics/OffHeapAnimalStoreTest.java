@@ -0,0 +1,129 @@
+package com.baeldung.generics;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.*;
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * Test suite for the off-heap animal store.
+ */
+@DisplayName("Off-Heap Animal Store Tests")
+class OffHeapAnimalStoreTest {
+
+    private static List<Animal> animals() {
+        List<Animal> animals = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            String type = i % 7 == 0 ? "Félin" : "Type" + (i % 3);
+            animals.add(i % 4 == 0 ? new Dog(type, "dog" + i) : new Cat(type, i % 5 == 0 ? "" : "chat" + i + "é"));
+        }
+        return animals;
+    }
+
+    /**
+     * Dogs have identity equality: compares the class, type and name instead.
+     */
+    private static void assertSameAnimal(Animal expected, Animal actual) {
+        assertEquals(expected.getClass(), actual.getClass());
+        assertEquals(expected.getType(), actual.getType());
+        assertEquals(expected.getName(), actual.getName());
+    }
+
+    @Test
+    @DisplayName("Test records round-trip and bulk scans match the objects")
+    void testAddAndRead() {
+        List<Animal> animals = animals();
+        try (OffHeapAnimalStore store = OffHeapAnimalStore.allocate(animals.size(), 16 * animals.size())) {
+            for (Animal animal : animals) {
+                store.add(animal);
+            }
+
+            assertEquals(animals.size(), store.size());
+            for (int i = 0; i < animals.size(); i++) {
+                assertSameAnimal(animals.get(i), store.get(i));
+                assertEquals(animals.get(i).getName().getBytes(java.nio.charset.StandardCharsets.UTF_8).length,
+                    store.nameByteLength(i));
+            }
+            assertEquals(animals.stream().filter(a -> a instanceof Dog).count(), store.count(AnimalStore.Kind.DOG));
+            assertEquals(store.size(), Arrays.stream(store.countByType()).sum());
+            assertEquals(animals.stream().filter(a -> a.getType().equals("Félin")).count(),
+                store.countByType()[store.types().intern("Félin")]);
+            assertThrows(IllegalStateException.class, () -> store.add(new Cat("Feline", "Tom")));
+            assertThrows(IndexOutOfBoundsException.class, () -> store.get(animals.size()));
+        }
+    }
+
+    @Test
+    @DisplayName("Test saved stores load back read-only and fail after close")
+    void testSaveAndLoad(@TempDir Path directory) throws IOException {
+        List<Animal> animals = animals();
+        Path file = directory.resolve("animals.bin");
+        try (OffHeapAnimalStore store = OffHeapAnimalStore.allocate(2_000, 20_000)) {
+            for (Animal animal : animals) {
+                store.add(animal);
+            }
+            store.save(file);
+        }
+
+        OffHeapAnimalStore loaded = OffHeapAnimalStore.load(file);
+        assertEquals(animals.size(), loaded.size());
+        for (int i = 0; i < animals.size(); i++) {
+            assertSameAnimal(animals.get(i), loaded.get(i));
+        }
+        assertThrows(IllegalStateException.class, () -> loaded.add(AnimalStore.Kind.CAT, "Feline", "Tom"));
+        loaded.close();
+        loaded.close();
+        assertThrows(IllegalStateException.class, () -> loaded.kind(0));
+    }
+
+    @Test
+    @DisplayName("Test invalid arguments and files are rejected")
+    void testValidation(@TempDir Path directory) throws IOException {
+        assertThrows(IllegalArgumentException.class, () -> OffHeapAnimalStore.allocate(-1, 0));
+        try (OffHeapAnimalStore store = OffHeapAnimalStore.allocate(2, 100_000)) {
+            assertThrows(IllegalArgumentException.class,
+                () -> store.add(AnimalStore.Kind.CAT, "Feline", "x".repeat(OffHeapAnimalStore.MAX_NAME_BYTES + 1)));
+            assertEquals(0, store.size());
+        }
+        Path file = directory.resolve("garbage.bin");
+        Files.write(file, new byte[64]);
+        assertThrows(IOException.class, () -> OffHeapAnimalStore.load(file));
+    }
+
+    @Test
+    @DisplayName("Test corrupt headers and records fail at load")
+    void testCorruptFiles(@TempDir Path directory) throws IOException {
+        Path file = directory.resolve("animals.bin");
+        try (OffHeapAnimalStore store = OffHeapAnimalStore.allocate(2, 100)) {
+            store.add(AnimalStore.Kind.CAT, "Feline", "Tom");
+            store.add(AnimalStore.Kind.DOG, "Canine", "Rex");
+            store.save(file);
+        }
+        byte[] saved = Files.readAllBytes(file);
+        int secondRecord = 32 + ByteBuffer.wrap(saved).order(ByteOrder.LITTLE_ENDIAN).getInt(28) + 16;
+
+        // record count such that count * 16 overflows
+        assertCorrupt(file, saved, bytes -> bytes.putLong(8, Long.MAX_VALUE / 8));
+        // kind, type id, then name offset of the second record
+        assertCorrupt(file, saved, bytes -> bytes.put(secondRecord + 14, (byte) 2));
+        assertCorrupt(file, saved, bytes -> bytes.putInt(secondRecord + 8, 2));
+        assertCorrupt(file, saved, bytes -> bytes.putLong(secondRecord, 4));
+
+        Files.write(file, saved);
+        OffHeapAnimalStore.load(file).close();
+    }
+
+    private static void assertCorrupt(Path file, byte[] saved, Consumer<ByteBuffer> corruption)
+            throws IOException {
+        ByteBuffer bytes = ByteBuffer.wrap(saved.clone()).order(ByteOrder.LITTLE_ENDIAN);
+        corruption.accept(bytes);
+        Files.write(file, bytes.array());
+        assertThrows(IOException.class, () -> OffHeapAnimalStore.load(file));
+    }
+}
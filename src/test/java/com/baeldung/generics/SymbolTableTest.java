@@ -0,0 +1,99 @@
+package com.baeldung.generics;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Test suite for the symbol table and interned animals.
+ */
+@DisplayName("Symbol Table Tests")
+class SymbolTableTest {
+
+    @Test
+    @DisplayName("Test ids are dense and map back to canonical instances")
+    void testInternAndSymbol() {
+        SymbolTable symbols = new SymbolTable(4);
+        for (int i = 0; i < 10_000; i++) {
+            assertEquals(i, symbols.intern("name" + i));
+        }
+        String first = symbols.symbol(0);
+
+        assertEquals(0, symbols.intern(new String("name0")));
+        assertSame(first, symbols.symbol(symbols.intern("name" + 0)));
+        assertEquals("name9999", symbols.symbol(9999));
+        assertEquals(10_000, symbols.size());
+        assertThrows(IndexOutOfBoundsException.class, () -> symbols.symbol(10_000));
+        assertThrows(IndexOutOfBoundsException.class, () -> symbols.symbol(-1));
+        assertThrows(IllegalArgumentException.class, () -> new SymbolTable(0));
+    }
+
+    @Test
+    @DisplayName("Test concurrent interning assigns one id per distinct string")
+    void testConcurrentIntern() throws Exception {
+        SymbolTable symbols = new SymbolTable(8);
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<int[]>> results = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                results.add(pool.submit(() -> {
+                    int[] ids = new int[5_000];
+                    for (int i = 0; i < ids.length; i++) {
+                        ids[i] = symbols.intern("name" + i);
+                    }
+                    return ids;
+                }));
+            }
+            int[] expected = results.get(0).get();
+            for (Future<int[]> result : results) {
+                assertArrayEquals(expected, result.get());
+            }
+            assertEquals(5_000, symbols.size());
+            assertEquals(5_000, Arrays.stream(expected).distinct().filter(id -> id < 5_000).count());
+            for (int i = 0; i < expected.length; i++) {
+                assertEquals("name" + i, symbols.symbol(expected[i]));
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Test interned animals share strings and get dense type ids")
+    void testInternedAnimals() {
+        AnimalSymbols symbols = new AnimalSymbols();
+        Cat tom = Cat.interned("Feline", new String("Tom"), symbols);
+        Cat sameTom = Cat.interned(new String("Feline"), "Tom", symbols);
+        Cat felix = Cat.interned("Feline", "Felix", symbols);
+        Dog rex = Dog.interned("Canine", "Rex", symbols);
+        Cat plainTom = new Cat("Feline", "Tom");
+        Cat otherTableTom = Cat.interned("Feline", "Tom", new AnimalSymbols());
+
+        assertSame(tom.getName(), sameTom.getName());
+        assertSame(tom.getType(), felix.getType());
+        assertEquals(0, tom.getTypeId());
+        assertEquals(tom.getTypeId(), felix.getTypeId());
+        assertEquals(1, rex.getTypeId());
+        assertNotEquals(tom.getNameId(), felix.getNameId());
+        assertSame(rex.getName(), symbols.names().symbol(rex.getNameId()));
+        assertEquals(-1, plainTom.getNameId());
+        assertEquals(tom, sameTom);
+        assertNotEquals(tom, felix);
+        assertEquals(tom, plainTom);
+        assertEquals(plainTom, tom);
+        assertEquals(tom, otherTableTom);
+        assertEquals(plainTom.hashCode(), tom.hashCode());
+        assertNotEquals(Dog.interned("Feline", "Tom", symbols), tom);
+        assertNotEquals(tom, Dog.interned("Feline", "Tom", symbols));
+        assertThrows(IllegalArgumentException.class, () -> new AnimalSymbols(symbols.names(), symbols.names()));
+
+        AnimalIndex<Cat> index = new AnimalIndex<>();
+        assertTrue(index.add(tom));
+        assertFalse(index.add(sameTom));
+        assertFalse(index.add(plainTom));
+        assertTrue(index.contains(otherTableTom));
+        assertSame(tom, index.get("Feline", "Tom"));
+    }
+}
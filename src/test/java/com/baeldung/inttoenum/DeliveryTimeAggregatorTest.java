@@ -0,0 +1,98 @@
+package com.baeldung.inttoenum;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Test suite for incremental delivery-time aggregation.
+ */
+@DisplayName("Delivery Time Aggregator Tests")
+class DeliveryTimeAggregatorTest {
+
+    @Test
+    @DisplayName("Test transitions only move one step forward")
+    void testCanTransitionTo() {
+        assertTrue(PizzaStatus.ORDERED.canTransitionTo(PizzaStatus.READY));
+        assertTrue(PizzaStatus.READY.canTransitionTo(PizzaStatus.DELIVERED));
+        assertFalse(PizzaStatus.ORDERED.canTransitionTo(PizzaStatus.DELIVERED));
+        assertFalse(PizzaStatus.READY.canTransitionTo(PizzaStatus.ORDERED));
+        assertFalse(PizzaStatus.DELIVERED.canTransitionTo(PizzaStatus.DELIVERED));
+    }
+
+    @Test
+    @DisplayName("Test totals follow additions and transitions")
+    void testTotals() {
+        DeliveryTimeAggregator aggregator = new DeliveryTimeAggregator();
+        assertEquals(0.0, aggregator.averageRemainingTime());
+
+        for (int i = 0; i < 4; i++) {
+            aggregator.add(PizzaStatus.ORDERED);
+        }
+        aggregator.transition(PizzaStatus.ORDERED, PizzaStatus.READY);
+        aggregator.transition(PizzaStatus.ORDERED, PizzaStatus.READY);
+        aggregator.transition(PizzaStatus.READY, PizzaStatus.DELIVERED);
+
+        assertEquals(2, aggregator.count(PizzaStatus.ORDERED));
+        assertEquals(1, aggregator.count(PizzaStatus.READY));
+        assertEquals(1, aggregator.count(PizzaStatus.DELIVERED));
+        assertEquals(3, aggregator.openOrders());
+        assertEquals(2 * 5 + 2, aggregator.totalRemainingTime());
+        assertEquals(12.0 / 3, aggregator.averageRemainingTime(), 1e-9);
+
+        aggregator.remove(PizzaStatus.DELIVERED);
+        assertEquals(0, aggregator.count(PizzaStatus.DELIVERED));
+    }
+
+    @Test
+    @DisplayName("Test illegal transitions are rejected without changing totals")
+    void testIllegalTransition() {
+        DeliveryTimeAggregator aggregator = new DeliveryTimeAggregator();
+        aggregator.add(PizzaStatus.ORDERED);
+
+        assertThrows(IllegalArgumentException.class,
+            () -> aggregator.transition(PizzaStatus.ORDERED, PizzaStatus.DELIVERED));
+        assertEquals(1, aggregator.count(PizzaStatus.ORDERED));
+        assertEquals(5, aggregator.totalRemainingTime());
+    }
+
+    @Test
+    @DisplayName("Test concurrent transitions give exact totals once quiescent")
+    void testConcurrentTransitions() throws Exception {
+        DeliveryTimeAggregator aggregator = new DeliveryTimeAggregator();
+        int threads = 8;
+        int ordersPerThread = 20_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < ordersPerThread; i++) {
+                        aggregator.add(PizzaStatus.ORDERED);
+                        aggregator.transition(PizzaStatus.ORDERED, PizzaStatus.READY);
+                        if (i % 2 == 0) {
+                            aggregator.transition(PizzaStatus.READY, PizzaStatus.DELIVERED);
+                        }
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        long total = (long) threads * ordersPerThread;
+        assertEquals(0, aggregator.count(PizzaStatus.ORDERED));
+        assertEquals(total / 2, aggregator.count(PizzaStatus.READY));
+        assertEquals(total / 2, aggregator.count(PizzaStatus.DELIVERED));
+        assertEquals(total / 2 * 2, aggregator.totalRemainingTime());
+        assertEquals(2.0, aggregator.averageRemainingTime(), 1e-9);
+    }
+}
@@ -0,0 +1,64 @@
+package com.baeldung.inttoenum;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for the generic enum codec.
+ */
+@DisplayName("Int Enum Codec Tests")
+class IntEnumCodecTest {
+
+    enum HttpStatus {
+        OK(200), CREATED(201), MOVED(301), NOT_FOUND(404), ERROR(500), TIMEOUT(100_000);
+
+        final int code;
+
+        HttpStatus(int code) {
+            this.code = code;
+        }
+    }
+
+    enum Clash {
+        FIRST(1), SECOND(2), THIRD(1);
+
+        final int code;
+
+        Clash(int code) {
+            this.code = code;
+        }
+    }
+
+    @Test
+    @DisplayName("Test encode and decode round-trip for every constant")
+    void testRoundTrip() {
+        IntEnumCodec<HttpStatus> codec = IntEnumCodec.of(HttpStatus.class, status -> status.code);
+
+        for (HttpStatus status : HttpStatus.values()) {
+            assertEquals(status.code, codec.encode(status));
+            assertSame(status, codec.decode(status.code));
+        }
+        assertNull(codec.decode(0));
+        assertNull(codec.decode(202));
+        assertEquals(IntKeyLookup.Strategy.PERFECT_HASH, codec.strategy());
+    }
+
+    @Test
+    @DisplayName("Test PizzaStatus decodes through a dense codec")
+    void testPizzaStatusCodec() {
+        IntEnumCodec<PizzaStatus> codec = IntEnumCodec.of(PizzaStatus.class, PizzaStatus::getTimeToDelivery);
+
+        assertEquals(IntKeyLookup.Strategy.DENSE, codec.strategy());
+        assertSame(PizzaStatus.READY, codec.decode(2));
+        assertEquals(5, codec.encode(PizzaStatus.ORDERED));
+    }
+
+    @Test
+    @DisplayName("Test duplicate codes are rejected at build time")
+    void testDuplicateCodes() {
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+            () -> IntEnumCodec.of(Clash.class, clash -> clash.code));
+        assertTrue(e.getMessage().contains("FIRST") && e.getMessage().contains("THIRD"), e.getMessage());
+    }
+}
@@ -0,0 +1,88 @@
+package com.baeldung.inttoenum;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Test suite for the primitive-keyed lookup behind IntEnumCodec.
+ */
+@DisplayName("Int Key Lookup Tests")
+class IntKeyLookupTest {
+
+    @Test
+    @DisplayName("Test small key ranges use the dense layout")
+    void testDenseLayout() {
+        Integer[] values = {-3, 0, 7, 40};
+        IntKeyLookup<Integer> lookup = IntKeyLookup.of(values, Integer::intValue);
+
+        assertEquals(IntKeyLookup.Strategy.DENSE, lookup.strategy());
+        for (Integer value : values) {
+            assertSame(value, lookup.get(value));
+        }
+        assertNull(lookup.get(-4));
+        assertNull(lookup.get(1));
+        assertNull(lookup.get(41));
+        assertNull(lookup.get(Integer.MIN_VALUE));
+        assertNull(lookup.get(Integer.MAX_VALUE));
+    }
+
+    @Test
+    @DisplayName("Test sparse keys get a perfect hash")
+    void testPerfectHashLayout() {
+        assertMatchesHashMap(3, 21, IntKeyLookup.MAX_SEEDS_PER_BUCKET, IntKeyLookup.Strategy.PERFECT_HASH);
+        assertMatchesHashMap(50, 21, IntKeyLookup.MAX_SEEDS_PER_BUCKET, IntKeyLookup.Strategy.PERFECT_HASH);
+        assertMatchesHashMap(5_000, 11, IntKeyLookup.MAX_SEEDS_PER_BUCKET, IntKeyLookup.Strategy.PERFECT_HASH);
+    }
+
+    @Test
+    @DisplayName("Test sparse keys fall back to binary search without a perfect hash")
+    void testBinarySearchLayout() {
+        assertMatchesHashMap(5_000, 11, 0, IntKeyLookup.Strategy.BINARY_SEARCH);
+    }
+
+    @Test
+    @DisplayName("Test duplicate keys are rejected")
+    void testDuplicateKeys() {
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+            () -> IntKeyLookup.of(new String[] {"ab", "c", "de"}, String::length));
+        assertTrue(e.getMessage().contains("ab") && e.getMessage().contains("de"), e.getMessage());
+    }
+
+    @Test
+    @DisplayName("Test an empty lookup knows no key")
+    void testEmpty() {
+        IntKeyLookup<String> lookup = IntKeyLookup.of(new String[0], String::length);
+
+        assertEquals(0, lookup.size());
+        assertNull(lookup.get(0));
+        assertNull(lookup.get(-1));
+    }
+
+    private static void assertMatchesHashMap(int count, long seed, int maxSeeds, IntKeyLookup.Strategy expected) {
+        Random random = new Random(seed);
+        Map<Integer, String> reference = new HashMap<>();
+        reference.put(Integer.MIN_VALUE, "min");
+        reference.put(Integer.MAX_VALUE, "max");
+        reference.put(0, "zero");
+        while (reference.size() < count) {
+            int key = random.nextInt();
+            reference.put(key, "v" + key);
+        }
+        Map<String, Integer> keyOf = new HashMap<>();
+        reference.forEach((key, value) -> keyOf.put(value, key));
+
+        IntKeyLookup<String> lookup = IntKeyLookup.of(reference.values().toArray(new String[0]), keyOf::get, maxSeeds);
+
+        assertEquals(expected, lookup.strategy());
+        assertEquals(count, lookup.size());
+        reference.forEach((key, value) -> assertSame(value, lookup.get(key)));
+        for (int i = 0; i < 10_000; i++) {
+            int key = random.nextInt();
+            assertEquals(reference.get(key), lookup.get(key));
+        }
+    }
+}
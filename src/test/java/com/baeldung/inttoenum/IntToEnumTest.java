@@ -60,6 +60,14 @@ class IntToEnumTest {
         assertNull(status);
     }
 
+    @Test
+    @DisplayName("Test casting extreme integers returns null")
+    void testCastExtremeInts() {
+        assertNull(PizzaStatus.castIntToEnum(Integer.MIN_VALUE));
+        assertNull(PizzaStatus.castIntToEnum(Integer.MAX_VALUE));
+        assertNull(PizzaStatus.castIntToEnum(6));
+    }
+
     @Test
     @DisplayName("Test all enum values are mappable")
     void testAllEnumValuesAreMappable() {
@@ -0,0 +1,103 @@
+package com.baeldung.inttoenum;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Test suite for the lock-free order state machine.
+ */
+@DisplayName("Order State Machine Tests")
+class OrderStateMachineTest {
+
+    @Test
+    @DisplayName("Test an order goes through its life cycle")
+    void testLifeCycle() {
+        OrderStateMachine machine = new OrderStateMachine(4);
+
+        assertNull(machine.status(2));
+        assertEquals(OrderStateMachine.Result.APPLIED, machine.open(2));
+        assertEquals(PizzaStatus.ORDERED, machine.status(2));
+        assertEquals(OrderStateMachine.Result.APPLIED, machine.transition(2, PizzaStatus.ORDERED, PizzaStatus.READY));
+        assertEquals(OrderStateMachine.Result.APPLIED, machine.advance(2));
+        assertEquals(PizzaStatus.DELIVERED, machine.status(2));
+        assertEquals(OrderStateMachine.Result.APPLIED, machine.close(2));
+        assertNull(machine.status(2));
+        assertEquals(4, machine.appliedCount());
+    }
+
+    @Test
+    @DisplayName("Test illegal, lost and unknown outcomes are reported and counted")
+    void testRejectedChanges() {
+        OrderStateMachine machine = new OrderStateMachine(4);
+        machine.open(0);
+
+        assertEquals(OrderStateMachine.Result.ILLEGAL,
+            machine.transition(0, PizzaStatus.ORDERED, PizzaStatus.DELIVERED));
+        assertEquals(OrderStateMachine.Result.LOST,
+            machine.transition(0, PizzaStatus.READY, PizzaStatus.DELIVERED));
+        assertEquals(OrderStateMachine.Result.LOST, machine.open(0));
+        assertEquals(OrderStateMachine.Result.ILLEGAL, machine.close(0));
+        assertEquals(OrderStateMachine.Result.UNKNOWN, machine.advance(1));
+        assertEquals(OrderStateMachine.Result.UNKNOWN,
+            machine.transition(1, PizzaStatus.ORDERED, PizzaStatus.READY));
+        assertEquals(OrderStateMachine.Result.UNKNOWN, machine.close(1));
+        machine.advance(0);
+        machine.advance(0);
+        assertEquals(OrderStateMachine.Result.ILLEGAL, machine.advance(0));
+
+        assertEquals(3, machine.illegalCount());
+        assertEquals(2, machine.lostCount());
+        assertEquals(PizzaStatus.DELIVERED, machine.status(0));
+    }
+
+    @Test
+    @DisplayName("Test exactly one of racing threads applies each transition")
+    void testRacingTransitions() throws Exception {
+        int orders = 10_000;
+        int threads = 4;
+        DeliveryTimeAggregator aggregator = new DeliveryTimeAggregator();
+        OrderStateMachine machine = new OrderStateMachine(orders, aggregator);
+        for (int id = 0; id < orders; id++) {
+            machine.open(id);
+        }
+        CyclicBarrier start = new CyclicBarrier(threads);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Integer>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    int wins = 0;
+                    for (int id = 0; id < orders; id++) {
+                        if (machine.transition(id, PizzaStatus.ORDERED, PizzaStatus.READY)
+                                == OrderStateMachine.Result.APPLIED) {
+                            wins++;
+                        }
+                    }
+                    return wins;
+                }));
+            }
+            int wins = 0;
+            for (Future<Integer> future : futures) {
+                wins += future.get();
+            }
+            assertEquals(orders, wins);
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals((long) orders * (threads - 1), machine.lostCount());
+        assertEquals(orders, aggregator.count(PizzaStatus.READY));
+        assertEquals(0, aggregator.count(PizzaStatus.ORDERED));
+        for (int id = 0; id < orders; id++) {
+            assertEquals(PizzaStatus.READY, machine.status(id));
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.baeldung.inttoenum;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Test suite for the packed and run-length PizzaStatus codecs.
+ */
+@DisplayName("Pizza Status Codec Tests")
+class PizzaStatusCodecTest {
+
+    private static final PizzaStatus[] STATUSES = PizzaStatus.values();
+
+    @Test
+    @DisplayName("Test packed round-trip on heap, sliced heap and direct buffers")
+    void testPackedRoundTrip() {
+        Random random = new Random(13);
+        for (int length = 0; length < 70; length++) {
+            PizzaStatus[] input = randomStatuses(random, length, 1);
+            for (ByteBuffer buffer : buffers(PizzaStatusCodec.packedSize(length) + 3)) {
+                buffer.position(1);
+                PizzaStatusCodec.pack(input, 0, length, buffer);
+                assertEquals(1 + PizzaStatusCodec.packedSize(length), buffer.position());
+
+                buffer.position(1);
+                PizzaStatus[] output = new PizzaStatus[length + 2];
+                PizzaStatusCodec.unpack(buffer, length, output, 1);
+                assertArrayEquals(input, Arrays.copyOfRange(output, 1, length + 1));
+                assertNull(output[0]);
+                assertNull(output[length + 1]);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Test packing a stream matches packing an array")
+    void testPackStream() {
+        PizzaStatus[] input = randomStatuses(new Random(3), 1001, 1);
+        ByteBuffer fromArray = ByteBuffer.allocate(PizzaStatusCodec.packedSize(input.length));
+        ByteBuffer fromStream = ByteBuffer.allocateDirect(PizzaStatusCodec.packedSize(input.length));
+
+        PizzaStatusCodec.pack(input, 0, input.length, fromArray);
+        assertEquals(input.length, PizzaStatusCodec.pack(Arrays.stream(input), fromStream));
+
+        fromArray.flip();
+        fromStream.flip();
+        assertEquals(fromArray, fromStream);
+        assertEquals(251, fromStream.remaining());
+    }
+
+    @Test
+    @DisplayName("Test run-length round-trip with short and very long runs")
+    void testRunLengthRoundTrip() {
+        Random random = new Random(17);
+        for (int meanRun : new int[] {1, 5, 40, 5_000, 300_000}) {
+            PizzaStatus[] input = randomStatuses(random, 600_000, meanRun);
+            for (ByteBuffer buffer : buffers(input.length * 2)) {
+                int written = PizzaStatusCodec.encodeRuns(input, 0, input.length, buffer);
+                assertEquals(written, buffer.position());
+                buffer.flip();
+
+                PizzaStatus[] output = new PizzaStatus[input.length];
+                PizzaStatusCodec.decodeRuns(buffer, input.length, output, 0);
+                assertArrayEquals(input, output, "mean run " + meanRun);
+                assertFalse(buffer.hasRemaining());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Test long runs take a few bytes")
+    void testRunLengthSize() {
+        PizzaStatus[] input = new PizzaStatus[1_000_000];
+        Arrays.fill(input, PizzaStatus.READY);
+        ByteBuffer buffer = ByteBuffer.allocate(16);
+
+        assertEquals(4, PizzaStatusCodec.encodeRuns(input, 0, input.length, buffer));
+        assertEquals(1, PizzaStatusCodec.encodeRuns(input, 0, 32, buffer));
+        assertEquals(2, PizzaStatusCodec.encodeRuns(input, 0, 33, buffer));
+    }
+
+    @Test
+    @DisplayName("Test corrupt and truncated input is rejected")
+    void testInvalidInput() {
+        PizzaStatus[] output = new PizzaStatus[8];
+
+        assertThrows(IllegalArgumentException.class,
+            () -> PizzaStatusCodec.unpack(ByteBuffer.wrap(new byte[] {0, (byte) 0xC0}), 8, output, 0));
+        assertThrows(IllegalArgumentException.class,
+            () -> PizzaStatusCodec.unpack(ByteBuffer.wrap(new byte[] {0, 0x0C}), 6, output, 0));
+        assertThrows(BufferUnderflowException.class,
+            () -> PizzaStatusCodec.unpack(ByteBuffer.wrap(new byte[] {0}), 5, output, 0));
+        assertThrows(IllegalArgumentException.class,
+            () -> PizzaStatusCodec.decodeRuns(ByteBuffer.wrap(new byte[] {(byte) 0xC0}), 1, output, 0));
+        assertThrows(IllegalArgumentException.class,
+            () -> PizzaStatusCodec.decodeRuns(ByteBuffer.wrap(new byte[] {0x09}), 8, output, 0));
+        assertThrows(BufferUnderflowException.class,
+            () -> PizzaStatusCodec.decodeRuns(ByteBuffer.wrap(new byte[] {0x01}), 8, output, 0));
+        assertThrows(IllegalArgumentException.class, () -> PizzaStatusCodec.decodeRuns(
+            ByteBuffer.wrap(new byte[] {0x20, (byte) 0x80, (byte) 0x80, (byte) 0x80, (byte) 0x80, 0}), 8, output, 0));
+        assertThrows(BufferOverflowException.class,
+            () -> PizzaStatusCodec.pack(STATUSES, 0, 3, ByteBuffer.allocate(0)));
+    }
+
+    private static PizzaStatus[] randomStatuses(Random random, int length, int meanRun) {
+        PizzaStatus[] statuses = new PizzaStatus[length];
+        PizzaStatus current = STATUSES[random.nextInt(STATUSES.length)];
+        for (int i = 0; i < length; i++) {
+            if (random.nextInt(meanRun) == 0) {
+                current = STATUSES[random.nextInt(STATUSES.length)];
+            }
+            statuses[i] = current;
+        }
+        return statuses;
+    }
+
+    private static ByteBuffer[] buffers(int capacity) {
+        ByteBuffer sliced = ByteBuffer.allocate(capacity + 5);
+        sliced.position(5);
+        return new ByteBuffer[] {ByteBuffer.allocate(capacity), sliced.slice(), ByteBuffer.allocateDirect(capacity)};
+    }
+}
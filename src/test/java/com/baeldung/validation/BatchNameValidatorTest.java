@@ -0,0 +1,69 @@
+package com.baeldung.validation;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.*;
+import java.util.stream.Stream;
+
+/**
+ * Test suite for bulk name validation.
+ */
+@DisplayName("Batch Name Validator Tests")
+class BatchNameValidatorTest {
+
+    private static final String[] NAMES = {
+        "Jean Dupont", "Jean123", null, "Hélène", "", "  Marie  ", "@"
+    };
+
+    private static BitSet expected() {
+        BitSet bits = new BitSet();
+        for (int i = 0; i < NAMES.length; i++) {
+            if (NameScanner.isValidName(NAMES[i])) {
+                bits.set(i);
+            }
+        }
+        return bits;
+    }
+
+    @Test
+    @DisplayName("Test array validation matches the scalar scanner")
+    void testValidateArray() {
+        assertEquals(expected(), BatchNameValidator.validate(NAMES));
+        assertEquals(3, BatchNameValidator.countValid(NAMES));
+    }
+
+    @Test
+    @DisplayName("Test random-access and linked lists give the same result")
+    void testValidateLists() {
+        List<String> arrayList = Arrays.asList(NAMES);
+        List<String> linkedList = new LinkedList<>(arrayList);
+
+        assertEquals(expected(), BatchNameValidator.validate(arrayList));
+        assertEquals(expected(), BatchNameValidator.validate(linkedList));
+        assertEquals(3, BatchNameValidator.countValid(arrayList));
+        assertEquals(3, BatchNameValidator.countValid(linkedList));
+    }
+
+    @Test
+    @DisplayName("Test stream validation keeps encounter order")
+    void testValidateStream() {
+        assertEquals(expected(), BatchNameValidator.validate(Arrays.stream(NAMES).parallel()));
+        assertEquals(3L, BatchNameValidator.countValid(Arrays.stream(NAMES).parallel()));
+    }
+
+    @Test
+    @DisplayName("Test empty inputs and word boundaries")
+    void testEmptyAndLargeInputs() {
+        assertTrue(BatchNameValidator.validate(new CharSequence[0]).isEmpty());
+        assertEquals(0L, BatchNameValidator.countValid(Stream.<String>empty()));
+
+        CharSequence[] names = new CharSequence[130];
+        Arrays.fill(names, "Ok");
+        names[64] = "K0";
+        BitSet bits = BatchNameValidator.validate(names);
+        assertEquals(129, bits.cardinality());
+        assertFalse(bits.get(64));
+        assertTrue(bits.get(129));
+    }
+}
@@ -0,0 +1,165 @@
+package com.baeldung.validation;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Test suite for the memoizing validator.
+ */
+@DisplayName("Caching Validator Tests")
+class CachingValidatorTest {
+
+    @Test
+    @DisplayName("Test cached results match the delegate and are counted")
+    void testHitsAndMisses() {
+        AtomicInteger calls = new AtomicInteger();
+        CachingValidator cache = CachingValidator.maximumEntries(input -> {
+            calls.incrementAndGet();
+            return NameScanner.isValidName(input);
+        }, 100);
+
+        for (int round = 0; round < 3; round++) {
+            assertTrue(cache.isValid("Jean Dupont"));
+            assertFalse(cache.isValid("Jean123"));
+        }
+
+        assertEquals(2, calls.get());
+        CacheStats stats = cache.stats();
+        assertEquals(4, stats.hitCount());
+        assertEquals(2, stats.missCount());
+        assertEquals(6, stats.requestCount());
+        assertEquals(4.0 / 6.0, stats.hitRate(), 1e-9);
+        assertEquals(2, cache.estimatedSize());
+    }
+
+    @Test
+    @DisplayName("Test non-String inputs bypass the cache")
+    void testMutableInputsBypassCache() {
+        CachingValidator cache = CachingValidator.maximumEntries(NameScanner::isValidName, 100);
+        StringBuilder name = new StringBuilder("Jean");
+
+        assertTrue(cache.isValid(name));
+        name.append('1');
+        assertFalse(cache.isValid(name));
+        assertFalse(cache.isValid(null));
+        assertEquals(0, cache.stats().requestCount());
+        assertEquals(0, cache.estimatedSize());
+    }
+
+    @Test
+    @DisplayName("Test entry bound holds and evictions are counted")
+    void testEntryBound() {
+        CachingValidator cache = new CachingValidator(NameScanner::isValidName, 500, false, 4);
+        for (int i = 0; i < 10_000; i++) {
+            cache.isValid("nom" + i);
+        }
+
+        assertTrue(cache.estimatedSize() <= 500, "size " + cache.estimatedSize());
+        assertEquals(10_000 - cache.estimatedSize(), cache.stats().evictionCount());
+    }
+
+    @Test
+    @DisplayName("Test memory bound accounts for key length")
+    void testMemoryBound() {
+        long budget = 64 * 1024;
+        CachingValidator cache = CachingValidator.maximumBytes(NameScanner::isValidName, budget);
+        String padding = "a".repeat(200);
+        for (int i = 0; i < 5_000; i++) {
+            cache.isValid(padding + i);
+        }
+
+        long perEntry = CachingValidator.weigh(padding + 1000);
+        assertTrue(cache.estimatedSize() * perEntry <= budget + perEntry, "size " + cache.estimatedSize());
+        assertTrue(cache.estimatedSize() > 0);
+    }
+
+    @Test
+    @DisplayName("Test frequent names survive a scan of one-off names")
+    void testFrequencyAwareAdmission() {
+        CachingValidator cache = new CachingValidator(NameScanner::isValidName, 1_000, false, 1);
+        List<String> popular = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            popular.add("populaire" + i);
+        }
+        for (int round = 0; round < 5; round++) {
+            popular.forEach(cache::isValid);
+        }
+        for (int i = 0; i < 5_000; i++) {
+            cache.isValid("unique" + i);
+        }
+
+        long hitsBefore = cache.stats().hitCount();
+        popular.forEach(cache::isValid);
+        long popularHits = cache.stats().hitCount() - hitsBefore;
+        assertTrue(popularHits >= 450, "popular hits " + popularHits);
+    }
+
+    @Test
+    @DisplayName("Test a rejected candidate evicts nothing from the main region")
+    void testRejectedCandidateKeepsVictims() {
+        // 1000 bytes: a 10-byte window, so every entry goes straight to admission, and 990 for main
+        CachingValidator cache = new CachingValidator(NameScanner::isValidName, 1_000, true, 1);
+        cache.isValid("v1");
+        for (int i = 0; i < 4; i++) {
+            cache.isValid("v2");
+        }
+        cache.isValid("f".repeat(194));
+        String candidate = "x".repeat(144);
+        // The first request loses to v1; the second beats v1 but not v2, and needs both evicted
+        cache.isValid(candidate);
+        cache.isValid(candidate);
+
+        assertEquals(3, cache.estimatedSize());
+        long hitsBefore = cache.stats().hitCount();
+        cache.isValid("v1");
+        assertEquals(hitsBefore + 1, cache.stats().hitCount());
+    }
+
+    @Test
+    @DisplayName("Test concurrent use keeps results and counters consistent")
+    void testConcurrentAccess() throws Exception {
+        CachingValidator cache = CachingValidator.maximumEntries(NameScanner::isValidName, 2_000);
+        int threads = 4;
+        int perThread = 50_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Integer>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int seed = t;
+                futures.add(executor.submit(() -> {
+                    int mismatches = 0;
+                    for (int i = 0; i < perThread; i++) {
+                        String name = (i * 31 + seed) % 3 == 0 ? "Nom" + (i % 5_000) : "Nom" + (i % 5_000) + "!";
+                        if (cache.isValid(name) != NameScanner.isValidName(name)) {
+                            mismatches++;
+                        }
+                    }
+                    return mismatches;
+                }));
+            }
+            for (Future<Integer> future : futures) {
+                assertEquals(0, future.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals((long) threads * perThread, cache.stats().requestCount());
+        assertTrue(cache.estimatedSize() <= 2_000 + 64);
+    }
+
+    @Test
+    @DisplayName("Test invalid configurations are rejected")
+    void testInvalidConfiguration() {
+        assertThrows(IllegalArgumentException.class, () -> CachingValidator.maximumEntries(null, 10));
+        assertThrows(IllegalArgumentException.class, () -> CachingValidator.maximumEntries(NameScanner::isValidName, 0));
+        assertThrows(IllegalArgumentException.class, () -> CachingValidator.maximumBytes(NameScanner::isValidName, -1));
+    }
+}
@@ -0,0 +1,86 @@
+package com.baeldung.validation;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Test suite for length measurement in UTF-16 units, code points, UTF-8 bytes and graphemes.
+ */
+@DisplayName("Length Limits Tests")
+class LengthLimitsTest {
+
+    private static final int[] POOL = {'a', 'Z', ' ', '\r', '\n', 'é', 'e', 0x0301, 0x20AC, 0xD800, 0xDC00,
+        0x1F600, 0x1F1EB, 0x1F1F7, 0x200D, 0x1F469};
+
+    @Test
+    @DisplayName("Test measurements match reference counts for every unit and limit")
+    void testMatchesReference() {
+        Random random = new Random(9);
+        for (int run = 0; run < 5_000; run++) {
+            StringBuilder sb = new StringBuilder();
+            int length = random.nextInt(12);
+            for (int i = 0; i < length; i++) {
+                sb.appendCodePoint(POOL[random.nextInt(POOL.length)]);
+            }
+            String input = sb.toString();
+            for (LengthUnit unit : LengthUnit.values()) {
+                int expected = reference(input, unit);
+                int limit = random.nextInt(30);
+                int actual = LengthLimits.measure(input, unit, limit);
+                assertEquals(expected <= limit ? expected : LengthLimits.OVER_LIMIT, actual, unit + " " + input);
+                assertEquals(expected, LengthLimits.measure(input, unit, Integer.MAX_VALUE), unit + " " + input);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Test limits in each unit on typical inputs")
+    void testTypicalInputs() {
+        String family = "\uD83D\uDC69\u200D\uD83D\uDC69\u200D\uD83D\uDC67";
+
+        assertEquals(8, LengthLimits.measure(family, LengthUnit.UTF16_UNITS, 10));
+        assertEquals(5, LengthLimits.measure(family, LengthUnit.CODE_POINTS, 10));
+        assertEquals(1, LengthLimits.measure(family, LengthUnit.GRAPHEMES, 1));
+        assertEquals(LengthLimits.OVER_LIMIT, LengthLimits.measure(family, LengthUnit.UTF8_BYTES, 17));
+        assertEquals(18, LengthLimits.measure(family, LengthUnit.UTF8_BYTES, 18));
+        assertEquals(5, LengthLimits.measure("Renée", LengthUnit.GRAPHEMES, 5));
+        assertEquals(6, LengthLimits.measure("Renée", LengthUnit.UTF8_BYTES, 7));
+        assertTrue(LengthLimits.fits("Jean", LengthUnit.UTF8_BYTES, 4));
+        assertFalse(LengthLimits.fits("Jean", LengthUnit.UTF8_BYTES, 3));
+    }
+
+    @Test
+    @DisplayName("Test null, empty and negative limits")
+    void testEdgeCases() {
+        for (LengthUnit unit : LengthUnit.values()) {
+            assertEquals(0, LengthLimits.measure(null, unit, 0));
+            assertEquals(0, LengthLimits.measure("", unit, 0));
+            assertEquals(0, LengthLimits.measure("", unit, -1));
+            assertEquals(LengthLimits.OVER_LIMIT, LengthLimits.measure("a", unit, -1));
+            assertEquals(LengthLimits.OVER_LIMIT, LengthLimits.measure("a", unit, 0));
+        }
+    }
+
+    private static int reference(String input, LengthUnit unit) {
+        switch (unit) {
+            case UTF16_UNITS:
+                return input.length();
+            case CODE_POINTS:
+                return input.codePointCount(0, input.length());
+            case UTF8_BYTES:
+                return input.getBytes(StandardCharsets.UTF_8).length;
+            default:
+                Matcher matcher = Pattern.compile("\\X").matcher(input);
+                int count = 0;
+                while (matcher.find()) {
+                    count++;
+                }
+                return count;
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.baeldung.validation;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+/**
+ * Test suite for memory-mapped file validation.
+ */
+@DisplayName("Mapped Name File Validator Tests")
+class MappedNameFileValidatorTest {
+
+    @TempDir
+    Path tempDir;
+
+    private Path write(byte[] content) throws IOException {
+        Path file = tempDir.resolve("names.txt");
+        Files.write(file, content);
+        return file;
+    }
+
+    /**
+     * Reference result: decode the whole file to a String and validate line by line.
+     */
+    private static List<Long> expectedInvalidLines(byte[] content) {
+        String text = new String(content, StandardCharsets.UTF_8);
+        String[] lines = text.split("\n", -1);
+        int count = text.endsWith("\n") || text.isEmpty() ? lines.length - 1 : lines.length;
+        List<Long> invalid = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            if (!NameScanner.isValidName(lines[i])) {
+                invalid.add(i + 1L);
+            }
+        }
+        return invalid;
+    }
+
+    @Test
+    @DisplayName("Test lines, CRLF endings and a final line without newline")
+    void testValidateFile() throws IOException {
+        byte[] content = "Jean Dupont\r\nJean123\n\nHélène\nZoë".getBytes(StandardCharsets.UTF_8);
+        List<Long> invalid = new ArrayList<>();
+
+        FileValidationSummary summary = MappedNameFileValidator.validate(write(content), invalid::add);
+
+        assertEquals(5, summary.lines());
+        assertEquals(2, summary.invalidLines());
+        assertEquals(content.length, summary.bytes());
+        assertEquals(Arrays.asList(2L, 3L), invalid);
+    }
+
+    @Test
+    @DisplayName("Test small mapping windows give the same result as one window")
+    void testWindowBoundaries() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        String[] samples = {"Jean Dupont", "J3an", "", "  Hélène  ", "𐌰abc", "Emoji 😀"};
+        Random random = new Random(3);
+        for (int i = 0; i < 500; i++) {
+            out.writeBytes(samples[random.nextInt(samples.length)].getBytes(StandardCharsets.UTF_8));
+            out.write('\n');
+        }
+        out.writeBytes(new byte[] {'A', (byte) 0xC3, '\n', (byte) 0xE9, 't', 'e', '\n'});
+        byte[] content = out.toByteArray();
+        Path file = write(content);
+
+        for (int window : new int[] {1, 5, 64, 1 << 20}) {
+            List<Long> invalid = new ArrayList<>();
+            FileValidationSummary summary = MappedNameFileValidator.validate(file, invalid::add, window);
+
+            assertEquals(502, summary.lines());
+            assertEquals(expectedInvalidLines(content), invalid);
+        }
+    }
+
+    @Test
+    @DisplayName("Test lines longer than the copy buffer")
+    void testLongLines() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.writeBytes("é".repeat(MappedNameFileValidator.CHUNK_SIZE).getBytes(StandardCharsets.UTF_8));
+        out.write('\n');
+        out.writeBytes(("a".repeat(3 * MappedNameFileValidator.CHUNK_SIZE) + "1\nJean").getBytes(StandardCharsets.UTF_8));
+        byte[] content = out.toByteArray();
+        Path file = write(content);
+
+        for (int window : new int[] {4096, 100_000, MappedNameFileValidator.DEFAULT_WINDOW_SIZE}) {
+            List<Long> invalid = new ArrayList<>();
+            FileValidationSummary summary = MappedNameFileValidator.validate(file, invalid::add, window);
+
+            assertEquals(3, summary.lines());
+            assertEquals(Arrays.asList(2L), invalid);
+        }
+    }
+
+    @Test
+    @DisplayName("Test empty file")
+    void testEmptyFile() throws IOException {
+        FileValidationSummary summary = MappedNameFileValidator.validate(write(new byte[0]),
+            line -> fail("No line expected"));
+
+        assertEquals(0, summary.lines());
+        assertEquals(0, summary.invalidLines());
+    }
+
+    @Test
+    @DisplayName("Test report collapses consecutive invalid lines into ranges")
+    void testRangeReport() throws IOException {
+        StringWriter out = new StringWriter();
+        InvalidLineRangeWriter report = new InvalidLineRangeWriter(out);
+        for (long line : new long[] {2, 5, 6, 7, 9, 10}) {
+            report.accept(line);
+        }
+        report.flush();
+
+        assertEquals("2\n5-7\n9-10\n", out.toString());
+    }
+}
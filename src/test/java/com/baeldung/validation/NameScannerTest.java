@@ -0,0 +1,102 @@
+package com.baeldung.validation;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.Random;
+import java.util.regex.Pattern;
+
+/**
+ * Test suite for the regex-free name scanner.
+ * Every case is checked against the original regex implementation.
+ */
+@DisplayName("Name Scanner Tests")
+class NameScannerTest {
+
+    private static final Pattern VALID_NAME_PATTERN = Pattern.compile("^[\\p{L}\\s]+$");
+
+    private static boolean regexIsValidName(String nom) {
+        if (nom == null || nom.trim().isEmpty()) {
+            return false;
+        }
+        return VALID_NAME_PATTERN.matcher(nom.trim()).matches();
+    }
+
+    private static void assertSameAsRegex(String input) {
+        assertEquals(regexIsValidName(input), NameScanner.isValidName(input),
+            () -> "Mismatch with regex for " + escape(input));
+    }
+
+    private static String escape(String input) {
+        StringBuilder sb = new StringBuilder();
+        input.chars().forEach(c -> sb.append(String.format("\\u%04X", c)));
+        return sb.toString();
+    }
+
+    @Test
+    @DisplayName("Test ASCII and accented names")
+    void testSimpleNames() {
+        assertTrue(NameScanner.isValidName("Jean Dupont"));
+        assertTrue(NameScanner.isValidName("Hélène Müller"));
+        assertTrue(NameScanner.isValidName("  Zoë\t"));
+        assertFalse(NameScanner.isValidName("Jean123"));
+        assertFalse(NameScanner.isValidName("Jean@Dupont"));
+        assertFalse(NameScanner.isValidName("O'Brien"));
+    }
+
+    @Test
+    @DisplayName("Test null, empty and blank inputs")
+    void testBlankInputs() {
+        assertFalse(NameScanner.isValidName((CharSequence) null));
+        assertFalse(NameScanner.isValidName(""));
+        assertFalse(NameScanner.isValidName("   "));
+        assertFalse(NameScanner.isValidName("\u0001\u0000 "));
+    }
+
+    @Test
+    @DisplayName("Test whitespace and control characters inside a name")
+    void testInnerWhitespace() {
+        assertTrue(NameScanner.isValidName("Jean\tDupont"));
+        assertTrue(NameScanner.isValidName("Jean\u000BDupont"));
+        assertFalse(NameScanner.isValidName("Jean\u0001Dupont"));
+        assertFalse(NameScanner.isValidName("Jean\u00A0Dupont"));
+        assertFalse(NameScanner.isValidName("Jean\u2003Dupont"));
+    }
+
+    @Test
+    @DisplayName("Test supplementary-plane letters and broken surrogates")
+    void testSupplementaryCodePoints() {
+        String gothic = new String(Character.toChars(0x10330));
+        String emoji = new String(Character.toChars(0x1F600));
+
+        assertTrue(NameScanner.isValidName("Ab" + gothic));
+        assertFalse(NameScanner.isValidName("Ab" + emoji));
+        assertFalse(NameScanner.isValidName("Ab\uD800"));
+        assertFalse(NameScanner.isValidName("\uDC00Ab"));
+        assertFalse(NameScanner.isValidName("A\uD800 b"));
+    }
+
+    @Test
+    @DisplayName("Test every BMP character agrees with the regex")
+    void testEveryBmpCharacter() {
+        for (int c = 0; c <= Character.MAX_VALUE; c++) {
+            assertSameAsRegex("a" + (char) c + "b");
+        }
+    }
+
+    @Test
+    @DisplayName("Test random strings agree with the regex")
+    void testRandomStrings() {
+        Random random = new Random(42);
+        int[] pool = {' ', '\t', '\n', '\r', '\u0000', '\u001F', 'a', 'Z', '1', '-', 'é', 'ß',
+            '\u00A0', 'あ', 0xD800, 0xDC00, 0x10330, 0x1F600, 0x20000};
+        for (int run = 0; run < 20_000; run++) {
+            StringBuilder sb = new StringBuilder();
+            int length = random.nextInt(8);
+            for (int i = 0; i < length; i++) {
+                sb.appendCodePoint(pool[random.nextInt(pool.length)]);
+            }
+            assertSameAsRegex(sb.toString());
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.baeldung.validation;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Test suite for fork/join bulk validation.
+ */
+@DisplayName("Parallel Name Validator Tests")
+class ParallelNameValidatorTest {
+
+    private static String[] randomNames(int count) {
+        String[] samples = {"Jean Dupont", "Jean123", "Hélène", "", null, " Zoë "};
+        Random random = new Random(7);
+        String[] names = new String[count];
+        for (int i = 0; i < count; i++) {
+            names[i] = samples[random.nextInt(samples.length)];
+        }
+        return names;
+    }
+
+    @Test
+    @DisplayName("Test parallel result matches the sequential batch result")
+    void testMatchesSequential() {
+        String[] names = randomNames(100_003);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (int threshold : new int[] {1, 63, 100, 4096, Integer.MAX_VALUE}) {
+                BulkValidationResult result = ParallelNameValidator.validate(names, pool, threshold);
+
+                assertEquals(BatchNameValidator.validate(names), result.toBitSet());
+                assertEquals(BatchNameValidator.countValid(names), result.validCount());
+                assertEquals(names.length, result.validCount() + result.invalidCount());
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Test per-index lookup and parallelism-level entry point")
+    void testPerIndexResult() {
+        String[] names = {"Jean", "J3an", "Marie"};
+        BulkValidationResult result = ParallelNameValidator.validate(names, 2, 1);
+
+        assertEquals(3, result.size());
+        assertTrue(result.isValid(0));
+        assertFalse(result.isValid(1));
+        assertTrue(result.isValid(2));
+        assertEquals(2, result.validCount());
+        assertEquals(1, result.invalidCount());
+        assertThrows(IndexOutOfBoundsException.class, () -> result.isValid(3));
+    }
+
+    @Test
+    @DisplayName("Test linked lists, empty input and invalid arguments")
+    void testEdgeCases() {
+        List<String> names = new LinkedList<>(Arrays.asList(randomNames(1000)));
+        BulkValidationResult result = ParallelNameValidator.validate(names, ForkJoinPool.commonPool(), 64);
+        assertEquals(BatchNameValidator.validate(names), result.toBitSet());
+
+        assertEquals(0, ParallelNameValidator.validate(new CharSequence[0]).size());
+        assertThrows(IllegalArgumentException.class,
+            () -> ParallelNameValidator.validate(names, ForkJoinPool.commonPool(), 0));
+        assertThrows(IllegalArgumentException.class,
+            () -> ParallelNameValidator.validate(names, null, 64));
+    }
+}
@@ -0,0 +1,153 @@
+package com.baeldung.validation;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+/**
+ * Differential tests for the UTF-8 byte path of the name scanner.
+ * The reference is the String path applied to the bytes decoded by the JDK.
+ */
+@DisplayName("UTF-8 Name Scanner Tests")
+class Utf8NameScannerTest {
+
+    private static final int[] CODE_POINTS = {' ', '\t', '\r', '\u0000', 'a', 'Z', '7', '@',
+        0x7F, 0x80, 0xE9, 0xA0, 0x2003, 0x3042, 0xFFFD, 0xFEFF, 0x10330, 0x1F600, 0x20000, 0x10FFFF};
+
+    // Lead bytes, continuation bytes and bytes that never appear in UTF-8
+    private static final int[] RAW_BYTES = {0xC0, 0xC1, 0xC3, 0xE0, 0xED, 0xEF, 0xF0, 0xF4, 0xF5,
+        0xF8, 0xFF, 0x80, 0x9F, 0xA0, 0xBF};
+
+    private static boolean stringPath(byte[] bytes) {
+        return NameScanner.isValidName(new String(bytes, StandardCharsets.UTF_8));
+    }
+
+    private static void assertAllPathsAgree(byte[] bytes) {
+        boolean expected = stringPath(bytes);
+
+        assertEquals(expected, NameScanner.isValidName(bytes, 0, bytes.length), () -> hex(bytes));
+
+        byte[] padded = new byte[bytes.length + 4];
+        padded[0] = 'x';
+        padded[1] = (byte) 0xC3;
+        System.arraycopy(bytes, 0, padded, 2, bytes.length);
+        padded[bytes.length + 2] = (byte) 0xE9;
+        padded[bytes.length + 3] = '1';
+        assertEquals(expected, NameScanner.isValidName(padded, 2, bytes.length), () -> hex(bytes));
+
+        ByteBuffer heap = ByteBuffer.wrap(padded, 2, bytes.length).slice();
+        assertEquals(expected, NameScanner.isValidName(heap), () -> hex(bytes));
+
+        ByteBuffer direct = ByteBuffer.allocateDirect(padded.length).put(padded);
+        direct.position(2).limit(2 + bytes.length);
+        assertEquals(expected, NameScanner.isValidName(direct), () -> hex(bytes));
+        assertEquals(2, direct.position());
+    }
+
+    private static String hex(byte[] bytes) {
+        StringBuilder sb = new StringBuilder("Mismatch for");
+        for (byte b : bytes) {
+            sb.append(String.format(" %02X", b & 0xFF));
+        }
+        return sb.toString();
+    }
+
+    @Test
+    @DisplayName("Test well-formed names")
+    void testWellFormedNames() {
+        assertTrue(NameScanner.isValidName(ByteBuffer.wrap("Jean Dupont".getBytes(StandardCharsets.UTF_8))));
+        assertTrue(NameScanner.isValidName("  Hélène\t".getBytes(StandardCharsets.UTF_8), 0, 11));
+        assertFalse(NameScanner.isValidName("Jean123".getBytes(StandardCharsets.UTF_8), 0, 7));
+        assertFalse(NameScanner.isValidName((byte[]) null, 0, 0));
+        assertFalse(NameScanner.isValidName((ByteBuffer) null));
+        assertFalse(NameScanner.isValidName(new byte[0], 0, 0));
+    }
+
+    @Test
+    @DisplayName("Test malformed sequences are rejected")
+    void testMalformedSequences() {
+        int[][] malformed = {
+            {'A', 0xC3},                    // truncated
+            {'A', 0xC0, 0xA0},              // overlong space
+            {'A', 0xE0, 0x80, 0x80},        // overlong
+            {'A', 0xED, 0xA0, 0x80},        // surrogate U+D800
+            {'A', 0xF4, 0x90, 0x80, 0x80},  // beyond U+10FFFF
+            {'A', 0x80},                    // lone continuation
+            {'A', 0xC3, 'b'},               // missing continuation
+        };
+        for (int[] sequence : malformed) {
+            byte[] bytes = new byte[sequence.length];
+            for (int i = 0; i < sequence.length; i++) {
+                bytes[i] = (byte) sequence[i];
+            }
+            assertFalse(NameScanner.isValidName(bytes, 0, bytes.length), () -> hex(bytes));
+            assertAllPathsAgree(bytes);
+        }
+    }
+
+    @Test
+    @DisplayName("Test invalid ranges are rejected")
+    void testInvalidRanges() {
+        byte[] bytes = new byte[4];
+        assertThrows(IndexOutOfBoundsException.class, () -> NameScanner.isValidName(bytes, 2, 3));
+        assertThrows(IndexOutOfBoundsException.class, () -> NameScanner.isValidName(bytes, -1, 1));
+    }
+
+    @Test
+    @DisplayName("Property: byte path agrees with the String path on random input")
+    void testRandomInputsAgree() {
+        Random random = new Random(2024);
+        for (int run = 0; run < 50_000; run++) {
+            byte[] bytes = randomInput(random);
+            assertAllPathsAgree(bytes);
+        }
+    }
+
+    @Test
+    @DisplayName("Property: byte path agrees on every two-byte input")
+    void testEveryTwoByteInput() {
+        byte[] bytes = new byte[3];
+        bytes[0] = 'a';
+        for (int first = 0; first < 256; first++) {
+            for (int second = 0; second < 256; second++) {
+                bytes[1] = (byte) first;
+                bytes[2] = (byte) second;
+                assertEquals(stringPath(bytes), NameScanner.isValidName(bytes, 0, 3), () -> hex(bytes));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Test direct buffers longer than a copy chunk, with sequences across chunks")
+    void testLongDirectBuffers() {
+        for (int shift = 0; shift < 5; shift++) {
+            for (String tail : new String[] {"é", "😀", "é1", "\u2003", "x"}) {
+                byte[] bytes = ("a".repeat(4094 + shift) + "ßé😀" + "b".repeat(5000) + tail)
+                    .getBytes(StandardCharsets.UTF_8);
+                assertAllPathsAgree(bytes);
+            }
+        }
+        byte[] truncated = ("a".repeat(4095) + "é").getBytes(StandardCharsets.UTF_8);
+        assertAllPathsAgree(java.util.Arrays.copyOf(truncated, truncated.length - 1));
+    }
+
+    private static byte[] randomInput(Random random) {
+        StringBuilder text = new StringBuilder();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        int parts = random.nextInt(6);
+        for (int i = 0; i < parts; i++) {
+            if (random.nextInt(4) == 0) {
+                out.write(RAW_BYTES[random.nextInt(RAW_BYTES.length)]);
+            } else {
+                text.setLength(0);
+                text.appendCodePoint(CODE_POINTS[random.nextInt(CODE_POINTS.length)]);
+                out.writeBytes(text.toString().getBytes(StandardCharsets.UTF_8));
+            }
+        }
+        return out.toByteArray();
+    }
+}
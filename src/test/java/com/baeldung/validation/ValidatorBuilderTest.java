@@ -0,0 +1,91 @@
+package com.baeldung.validation;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.Random;
+
+/**
+ * Test suite for composed, single-pass validators.
+ */
+@DisplayName("Validator Builder Tests")
+class ValidatorBuilderTest {
+
+    @Test
+    @DisplayName("Test name charset rule matches the name scanner")
+    void testNameCharsetMatchesScanner() {
+        Validator validator = Validator.builder().nameCharset().build();
+        int[] pool = {' ', '\t', '\u0000', 'a', 'Z', '1', 'é', '\u00A0', 0xD800, 0xDC00, 0x10330, 0x1F600};
+        Random random = new Random(5);
+        for (int run = 0; run < 20_000; run++) {
+            StringBuilder sb = new StringBuilder();
+            int length = random.nextInt(7);
+            for (int i = 0; i < length; i++) {
+                sb.appendCodePoint(pool[random.nextInt(pool.length)]);
+            }
+            String input = sb.toString();
+            assertEquals(NameScanner.isValidName(input), validator.isValid(input), input);
+        }
+        assertFalse(validator.isValid(null));
+    }
+
+    @Test
+    @DisplayName("Test length limit counts UTF-16 units before trimming")
+    void testMaxLength() {
+        Validator validator = Validator.builder().nameCharset().maxLength(6).build();
+
+        assertTrue(validator.isValid("Jean"));
+        assertTrue(validator.isValid(" Jean "));
+        assertFalse(validator.isValid("  Jean "));
+        assertFalse(validator.isValid("Jean Dupont"));
+        assertThrows(IllegalArgumentException.class, () -> Validator.builder().maxLength(-1));
+    }
+
+    @Test
+    @DisplayName("Test forbidden characters and custom predicates are combined")
+    void testCombinedRules() {
+        Validator validator = Validator.builder()
+            .nameCharset()
+            .maxLength(20)
+            .forbidChars("xX")
+            .forbidCodePoints(0x10330)
+            .codePointRule(cp -> cp != 'q')
+            .codePointRule(cp -> cp < 0x3000 || Character.isSupplementaryCodePoint(cp))
+            .build();
+
+        assertTrue(validator.isValid("Jean Dupont"));
+        assertFalse(validator.isValid("Maxime"));
+        assertFalse(validator.isValid("Jacques"));
+        assertFalse(validator.isValid("あ"));
+        assertFalse(validator.isValid("Ab𐌰"));
+        assertTrue(validator.isValid("Ab𐌱"));
+        assertFalse(validator.isValid("Jean1"));
+    }
+
+    @Test
+    @DisplayName("Test rules without the name charset accept any other character")
+    void testWithoutNameCharset() {
+        Validator validator = Validator.builder()
+            .forbidChars("<>")
+            .codePointRule(cp -> cp != '\uD800')
+            .build();
+
+        assertTrue(validator.isValid(""));
+        assertTrue(validator.isValid("  a-1 \uDC00"));
+        assertFalse(validator.isValid("<b>"));
+        assertFalse(validator.isValid("a\uD800"));
+        assertTrue(validator.isValid("a𐀀"));
+    }
+
+    @Test
+    @DisplayName("Test built validators are unaffected by later builder changes")
+    void testImmutability() {
+        ValidatorBuilder builder = Validator.builder().nameCharset();
+        Validator first = builder.build();
+        builder.forbidChars("J");
+        Validator second = builder.build();
+
+        assertTrue(first.isValid("Jean"));
+        assertFalse(second.isValid("Jean"));
+    }
+}
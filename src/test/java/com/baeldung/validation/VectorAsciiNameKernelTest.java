@@ -0,0 +1,88 @@
+package com.baeldung.validation;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Test suite for the Vector API ASCII fast path.
+ * Skipped when the JVM does not run with --add-modules jdk.incubator.vector.
+ */
+@DisplayName("Vector ASCII Name Kernel Tests")
+class VectorAsciiNameKernelTest {
+
+    private AsciiNameKernel kernel;
+
+    @BeforeEach
+    void loadKernel() {
+        kernel = AsciiNameKernel.load();
+        assumeTrue(kernel != null, "jdk.incubator.vector is not enabled");
+    }
+
+    private static int scalarPrefix(byte[] bytes, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (bytes[i] < 0 || !NameScanner.isNameChar((char) bytes[i])) {
+                return i;
+            }
+        }
+        return to;
+    }
+
+    @Test
+    @DisplayName("Test the fast path is active when the module is enabled")
+    void testSimdEnabled() {
+        assertTrue(NameScanner.isSimdEnabled());
+    }
+
+    @Test
+    @DisplayName("Test every byte value at every lane position")
+    void testEveryByteAtEveryPosition() {
+        byte[] bytes = new byte[130];
+        for (int value = 0; value < 256; value++) {
+            for (int position = 0; position < bytes.length; position++) {
+                Arrays.fill(bytes, (byte) 'a');
+                bytes[position] = (byte) value;
+                assertEquals(scalarPrefix(bytes, 0, bytes.length), kernel.asciiNamePrefix(bytes, 0, bytes.length),
+                    "value " + value + " at " + position);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Test random ranges agree with the scalar definition")
+    void testRandomRanges() {
+        byte[] alphabet = " \t\n\u000b\f\rAZaz@[`{09\u007f".getBytes(StandardCharsets.ISO_8859_1);
+        Random random = new Random(11);
+        byte[] bytes = new byte[300];
+        for (int run = 0; run < 5000; run++) {
+            for (int i = 0; i < bytes.length; i++) {
+                bytes[i] = random.nextInt(40) == 0
+                    ? (byte) (0x80 | random.nextInt(0x80))
+                    : alphabet[random.nextInt(alphabet.length)];
+            }
+            int from = random.nextInt(bytes.length);
+            int to = from + random.nextInt(bytes.length - from + 1);
+            assertEquals(scalarPrefix(bytes, from, to), kernel.asciiNamePrefix(bytes, from, to));
+        }
+    }
+
+    @Test
+    @DisplayName("Test names mixing ASCII runs and non-ASCII letters")
+    void testValidationThroughFastPath() {
+        String longAscii = "Jean Pierre Dupont ".repeat(20);
+        assertTrue(NameScanner.isValidName(bytes(longAscii + "Hélène")));
+        assertFalse(NameScanner.isValidName(bytes(longAscii + "Jean1")));
+        assertFalse(NameScanner.isValidName(bytes(longAscii + "😀" + longAscii)));
+        assertTrue(NameScanner.isValidName(bytes("Zoë " + longAscii)));
+    }
+
+    private static ByteBuffer bytes(String name) {
+        return ByteBuffer.wrap(name.getBytes(StandardCharsets.UTF_8));
+    }
+}